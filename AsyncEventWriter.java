@@ -0,0 +1,245 @@
+package snakeladder;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A GameEventSink that writes events to a file on a background thread.
+ *
+ * onEvent only copies the event's fields into a preallocated ring buffer, so
+ * the game thread never formats strings or touches the file. The writer
+ * thread drains everything queued so far, renders it with TextEventRenderer
+ * and flushes once per batch. When the ring is full, producers wait for the
+ * writer to catch up rather than dropping events. Any number of engines may
+ * share one writer.
+ *
+ * If writing or rendering fails, the writer thread stops and drops whatever
+ * is still queued; from then on onEvent throws instead of queueing, and
+ * flush and close rethrow the failure.
+ */
+public class AsyncEventWriter implements GameEventSink, Closeable {
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final GameEvent.Type[] TYPES = GameEvent.Type.values();
+
+    private final BufferedWriter out;
+    private final int capacity;
+    private final byte[] types;
+    private final Player[] players;
+    private final Player[] otherPlayers;
+    private final int[][] rolls;
+    private final int[] rollCounts;
+    private final int[] froms;
+    private final int[] tos;
+    private final int[] counts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long head; // next slot the writer reads; guarded by lock
+    private long tail; // next slot a producer fills; guarded by lock
+    private boolean closed;
+    private boolean writerStopped; // guarded by lock; set however the writer thread exits
+
+    private final Thread writer;
+    private volatile IOException failure;
+
+    public AsyncEventWriter(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    public AsyncEventWriter(Path file, int capacity) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8), capacity);
+    }
+
+    AsyncEventWriter(Writer out, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.out = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+        this.capacity = capacity;
+        this.types = new byte[capacity];
+        this.players = new Player[capacity];
+        this.otherPlayers = new Player[capacity];
+        this.rolls = new int[capacity][];
+        this.rollCounts = new int[capacity];
+        this.froms = new int[capacity];
+        this.tos = new int[capacity];
+        this.counts = new int[capacity];
+        this.writer = new Thread(this::drain, "event-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Event writer is closed");
+            }
+            checkWriter();
+            while (tail - head == capacity) {
+                notFull.awaitUninterruptibly();
+                checkWriter();
+            }
+            int slot = (int) (tail % capacity);
+            types[slot] = (byte) event.getType().ordinal();
+            players[slot] = event.getPlayer();
+            otherPlayers[slot] = event.getOtherPlayer();
+            froms[slot] = event.getFrom();
+            tos[slot] = event.getTo();
+            counts[slot] = event.getCount();
+            int[] eventRolls = event.getRolls();
+            if (eventRolls == null) {
+                rollCounts[slot] = -1;
+            } else {
+                if (rolls[slot] == null || rolls[slot].length < eventRolls.length) {
+                    rolls[slot] = new int[eventRolls.length]; // only until every slot has seen the dice count
+                }
+                System.arraycopy(eventRolls, 0, rolls[slot], 0, eventRolls.length);
+                rollCounts[slot] = eventRolls.length;
+            }
+            if (tail++ == head) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Blocks until every event published so far has been written and flushed
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            long target = tail;
+            while (head < target && !writerStopped) {
+                notFull.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        throwIfFailed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // With the lock held: events must not be queued for a writer that will never take them
+    private void checkWriter() {
+        if (failure != null) {
+            throw new UncheckedIOException("Event writer failed", failure);
+        }
+        if (writerStopped || !writer.isAlive()) {
+            throw new IllegalStateException("Event writer thread has stopped");
+        }
+    }
+
+    private void drain() {
+        try {
+            drainUntilClosed();
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new IOException("Could not render event", e);
+        } finally {
+            lock.lock();
+            try {
+                writerStopped = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void drainUntilClosed() throws IOException {
+        GameEvent event = new GameEvent();
+        int[][] rollViews = new int[8][]; // by dice count, so the renderer prints only the dice that were rolled
+        while (true) {
+            long from;
+            long to;
+            lock.lock();
+            try {
+                while (head == tail && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail) {
+                    return;
+                }
+                from = head;
+                to = tail;
+            } finally {
+                lock.unlock();
+            }
+
+            // Slots in [from, to) are ours until head moves past them
+            for (long i = from; i < to; i++) {
+                int slot = (int) (i % capacity);
+                int[] eventRolls = null;
+                int rollCount = rollCounts[slot];
+                if (rollCount >= 0) {
+                    if (rollCount >= rollViews.length) {
+                        rollViews = Arrays.copyOf(rollViews, rollCount + 1);
+                    }
+                    if (rollViews[rollCount] == null) {
+                        rollViews[rollCount] = new int[rollCount];
+                    }
+                    eventRolls = rollViews[rollCount];
+                    System.arraycopy(rolls[slot], 0, eventRolls, 0, rollCount);
+                }
+                event.set(TYPES[types[slot]], players[slot], otherPlayers[slot], eventRolls,
+                        froms[slot], tos[slot], counts[slot]);
+                String line = TextEventRenderer.render(event);
+                if (line != null) {
+                    out.write(line);
+                    out.newLine();
+                }
+                players[slot] = null;
+                otherPlayers[slot] = null;
+            }
+            out.flush();
+
+            lock.lock();
+            try {
+                head = to;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
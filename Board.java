@@ -1,28 +1,47 @@
 package snakeladder;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class Board {
     private final int size;
     private final int winningCell;
     private final Map<Integer, Entity> entities;
-    private final Random random;
+    private final RandomGenerator random;
+    private volatile CompiledBoard compiled; // cleared whenever an entity is added
+    private volatile BoardKey layoutKey;     // likewise
 
     public Board(int size) {
+        this(size, new Random());
+    }
+
+    // Pass a seeded generator to get the same layout from generateRandomEntities every time
+    public Board(int size, RandomGenerator random) {
         this.size = size;
         this.winningCell = size * size;
         this.entities = new HashMap<>();
-        this.random = new Random();
+        this.random = random;
     }
 
     public void addSnake(Snake snake) {
         validateEntity(snake);
         entities.put(snake.getStart(), snake);
+        compiled = null;
+        layoutKey = null;
     }
 
     public void addLadder(Ladder ladder) {
         validateEntity(ladder);
         entities.put(ladder.getStart(), ladder);
+        compiled = null;
+        layoutKey = null;
+    }
+
+    // For generators that have already checked bounds, overlaps and cycles themselves
+    void addEntityUnchecked(Entity entity) {
+        entities.put(entity.getStart(), entity);
+        compiled = null;
+        layoutKey = null;
     }
 
     private void validateEntity(Entity entity) {
@@ -33,20 +52,69 @@ public class Board {
         if (entities.containsKey(entity.getStart())) {
             throw new IllegalArgumentException("Cell already occupied by another entity.");
         }
+        if (wouldCreateCycle(entity.getStart(), entity.getEnd())) {
+            throw new IllegalArgumentException("Entity would create a cycle of snakes and ladders.");
+        }
     }
 
     public int getNextPosition(int currentPosition) {
-        if (entities.containsKey(currentPosition)) {
-            Entity entity = entities.get(currentPosition);
-            return entity.handleMovement(currentPosition);
+        return getNextPosition(currentPosition, GameLog.CONSOLE);
+    }
+
+    // Follows chained entities, matching the destinations in CompiledBoard
+    public int getNextPosition(int currentPosition, GameLog log) {
+        int position = currentPosition;
+        Entity entity;
+        while ((entity = entities.get(position)) != null) {
+            position = entity.handleMovement(position, log);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the immutable jump-table form of this board. The result is cached
+     * until the next addSnake/addLadder, so compile once before sharing a board
+     * between threads. Boards with the same layout share one CompiledBoard
+     * through BoardCache.SHARED.
+     */
+    public CompiledBoard compile() {
+        CompiledBoard result = compiled;
+        if (result == null) {
+            result = BoardCache.SHARED.compiledBoard(this);
+            compiled = result;
         }
-        return currentPosition;
+        return result;
+    }
+
+    CompiledBoard compileUncached() {
+        return new CompiledBoard(getLayoutKey(), winningCell, entities);
+    }
+
+    // Content identity of the current layout; equal for boards with the same size and entities
+    public BoardKey getLayoutKey() {
+        BoardKey result = layoutKey;
+        if (result == null) {
+            result = BoardKey.of(size, entities.values());
+            layoutKey = result;
+        }
+        return result;
     }
 
     public int getWinningCell() {
         return winningCell;
     }
 
+    public int getSize() {
+        return size;
+    }
+
+    // Snakes and ladders ordered by start cell
+    public List<Entity> getEntities() {
+        List<Entity> sorted = new ArrayList<>(entities.values());
+        sorted.sort(Comparator.comparingInt(Entity::getStart));
+        return sorted;
+    }
+
     public void generateRandomEntities() {
         int entityCount = size - 3; 
         
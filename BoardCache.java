@@ -0,0 +1,91 @@
+package snakeladder;
+
+import java.util.Objects;
+
+/**
+ * Shares results derived from a board layout (compiled jump tables, Markov
+ * solutions and value tables) between every board with the same content,
+ * keyed by BoardKey. Entries are weighed by their approximate size in bytes
+ * and the least recently used ones are evicted past the limit.
+ */
+public final class BoardCache {
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    // Used by Board.compile and ValueTable.of
+    public static final BoardCache SHARED = new BoardCache(DEFAULT_MAX_BYTES);
+
+    private final LruCache<ArtifactKey, Object> cache;
+
+    public BoardCache(long maxBytes) {
+        this.cache = new LruCache<>(maxBytes, BoardCache::weigh);
+    }
+
+    public CompiledBoard compiledBoard(Board board) {
+        BoardKey layout = board.getLayoutKey();
+        return (CompiledBoard) cache.get(new ArtifactKey(layout, "compiled", 0, 0, null),
+                key -> board.compileUncached());
+    }
+
+    public MarkovSolver markovSolver(Board board, int diceCount, int faces) {
+        return markovSolver(board.compile(), diceCount, faces);
+    }
+
+    public MarkovSolver markovSolver(CompiledBoard board, int diceCount, int faces) {
+        return (MarkovSolver) cache.get(new ArtifactKey(board.getLayoutKey(), "markov", diceCount, faces, null),
+                key -> new MarkovSolver(board, diceCount, faces));
+    }
+
+    public ValueTable valueTable(CompiledBoard board, int diceCount, int faces, MoveMode mode) {
+        return (ValueTable) cache.get(new ArtifactKey(board.getLayoutKey(), "value", diceCount, faces, mode),
+                key -> new ValueTable(board, diceCount, faces, mode));
+    }
+
+    public CacheStats getStats() {
+        return cache.getStats();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static long weigh(Object artifact) {
+        if (artifact instanceof CompiledBoard) {
+            return ((CompiledBoard) artifact).estimatedBytes();
+        }
+        if (artifact instanceof MarkovSolver) {
+            return ((MarkovSolver) artifact).estimatedBytes();
+        }
+        return ((ValueTable) artifact).estimatedBytes();
+    }
+
+    private static final class ArtifactKey {
+        private final BoardKey layout;
+        private final String kind;
+        private final int diceCount;
+        private final int faces;
+        private final MoveMode mode;
+
+        ArtifactKey(BoardKey layout, String kind, int diceCount, int faces, MoveMode mode) {
+            this.layout = layout;
+            this.kind = kind;
+            this.diceCount = diceCount;
+            this.faces = faces;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ArtifactKey)) {
+                return false;
+            }
+            ArtifactKey key = (ArtifactKey) other;
+            return kind.equals(key.kind) && diceCount == key.diceCount && faces == key.faces
+                    && mode == key.mode && layout.equals(key.layout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(layout, kind, diceCount, faces, mode);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package snakeladder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-maps a layout library written by BoardFileWriter. Nothing is
+ * decoded up front: every accessor reads straight from the mapped file, so
+ * opening a file with tens of thousands of boards costs one mapping and
+ * looking at one layout touches only its own pages.
+ *
+ * Opening checks the board count and every index offset against the file
+ * size and throws IOException if any is out of range; a record whose entity
+ * count would run past the records throws IllegalStateException when read.
+ */
+public class BoardFileReader implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int boardCount;
+    private final int indexStart;
+
+    public BoardFileReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        long length = channel.size();
+        if (length > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Board file larger than 2 GB is not supported: " + path);
+        }
+        if (length < BoardFileWriter.HEADER_BYTES + BoardFileWriter.FOOTER_BYTES) {
+            channel.close();
+            throw new IOException("Not a board file (too short): " + path);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+
+        int footer = (int) length - BoardFileWriter.FOOTER_BYTES;
+        if (buffer.getInt(0) != BoardFileWriter.MAGIC || buffer.getInt(footer + 4) != BoardFileWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not a board file (bad magic): " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != BoardFileWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported board file version " + version + ": " + path);
+        }
+        // Checked before it is multiplied, so a corrupt count can't wrap the index position around
+        int count = buffer.getInt(footer);
+        if (count < 0 || count > (footer - BoardFileWriter.HEADER_BYTES) / 8) {
+            channel.close();
+            throw new IOException("Corrupt board file index: " + count + " boards don't fit in " + length
+                    + " bytes: " + path);
+        }
+        this.boardCount = count;
+        this.indexStart = footer - count * 8;
+        // The index is contiguous, so checking every offset touches only the footer's pages
+        for (int board = 0; board < count; board++) {
+            long offset = buffer.getLong(indexStart + board * 8);
+            if (offset < BoardFileWriter.HEADER_BYTES || offset > indexStart - BoardFileWriter.RECORD_HEADER_BYTES) {
+                channel.close();
+                throw new IOException("Corrupt board file index: board " + board + " at offset " + offset
+                        + " lies outside the records: " + path);
+            }
+        }
+    }
+
+    public int getBoardCount() {
+        return boardCount;
+    }
+
+    public int getBoardSize(int board) {
+        return buffer.getInt(recordOffset(board));
+    }
+
+    public int getEntityCount(int board) {
+        return buffer.getInt(recordOffset(board) + 4);
+    }
+
+    public int getEntityStart(int board, int entity) {
+        return buffer.getInt(entityOffset(board, entity));
+    }
+
+    public int getEntityEnd(int board, int entity) {
+        return buffer.getInt(entityOffset(board, entity) + 4);
+    }
+
+    public boolean isSnake(int board, int entity) {
+        return buffer.getInt(entityOffset(board, entity) + 8) == BoardFileWriter.TYPE_SNAKE;
+    }
+
+    // Recomputes the record's CRC32 straight from the mapping
+    public boolean verify(int board) {
+        int offset = recordOffset(board);
+        int entityCount = buffer.getInt(offset + 4);
+        CRC32 crc = new CRC32();
+        crc.update(slice(offset, 8));
+        crc.update(slice(offset + BoardFileWriter.RECORD_HEADER_BYTES, entityCount * BoardFileWriter.ENTITY_BYTES));
+        return (int) crc.getValue() == buffer.getInt(offset + 8);
+    }
+
+    /**
+     * Checks the record and builds a mutable Board from it. Entities go
+     * through the normal addSnake/addLadder validation.
+     */
+    public Board readBoard(int board) {
+        if (!verify(board)) {
+            throw new IllegalStateException("Checksum mismatch for board " + board);
+        }
+        Board result = new Board(getBoardSize(board));
+        int entityCount = getEntityCount(board);
+        for (int entity = 0; entity < entityCount; entity++) {
+            int start = getEntityStart(board, entity);
+            int end = getEntityEnd(board, entity);
+            if (isSnake(board, entity)) {
+                result.addSnake(new Snake(start, end));
+            } else {
+                result.addLadder(new Ladder(start, end));
+            }
+        }
+        return result;
+    }
+
+    // Offsets were checked on open; the entity count is checked here so a record never reaches into the index
+    private int recordOffset(int board) {
+        if (board < 0 || board >= boardCount) {
+            throw new IndexOutOfBoundsException("Board " + board + " out of range 0.." + (boardCount - 1));
+        }
+        int offset = (int) buffer.getLong(indexStart + board * 8);
+        int entityCount = buffer.getInt(offset + 4);
+        if (entityCount < 0
+                || entityCount > (indexStart - offset - BoardFileWriter.RECORD_HEADER_BYTES) / BoardFileWriter.ENTITY_BYTES) {
+            throw new IllegalStateException("Corrupt board file: board " + board + " claims " + entityCount
+                    + " entities, more than its record can hold");
+        }
+        return offset;
+    }
+
+    private int entityOffset(int board, int entity) {
+        int offset = recordOffset(board);
+        if (entity < 0 || entity >= buffer.getInt(offset + 4)) {
+            throw new IndexOutOfBoundsException("Entity " + entity + " out of range for board " + board);
+        }
+        return offset + BoardFileWriter.RECORD_HEADER_BYTES + entity * BoardFileWriter.ENTITY_BYTES;
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        return buffer.slice(offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,103 @@
+package snakeladder;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Streams boards into the binary layout library format read by
+ * BoardFileReader. All values are big-endian.
+ *
+ * <pre>
+ * header   magic int "SLBD", version int
+ * record   size int, entityCount int, crc32 int, entityCount x (start int, end int, type int)
+ * ...
+ * footer   record offsets long[boardCount], boardCount int, magic int
+ * </pre>
+ *
+ * The CRC covers the size, entity count and triples of its record. The
+ * offset index sits in the footer so boards can be appended one at a time
+ * without knowing the total up front.
+ */
+public class BoardFileWriter implements Closeable {
+    public static final int MAGIC = 0x534C4244; // "SLBD"
+    public static final int VERSION = 1;
+    public static final int TYPE_SNAKE = 0;
+    public static final int TYPE_LADDER = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 12;
+    static final int ENTITY_BYTES = 12;
+    static final int FOOTER_BYTES = 8;
+
+    private final DataOutputStream out;
+    private long[] offsets;
+    private int boardCount;
+    private long position;
+
+    public BoardFileWriter(Path path) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.offsets = new long[16];
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        position = HEADER_BYTES;
+    }
+
+    public static void write(Path path, List<Board> boards) throws IOException {
+        try (BoardFileWriter writer = new BoardFileWriter(path)) {
+            for (Board board : boards) {
+                writer.append(board);
+            }
+        }
+    }
+
+    public void append(Board board) throws IOException {
+        List<Entity> entities = board.getEntities();
+        ByteBuffer body = ByteBuffer.allocate(8 + entities.size() * ENTITY_BYTES);
+        body.putInt(board.getSize());
+        body.putInt(entities.size());
+        for (Entity entity : entities) {
+            body.putInt(entity.getStart());
+            body.putInt(entity.getEnd());
+            body.putInt("Snake".equals(entity.getType()) ? TYPE_SNAKE : TYPE_LADDER);
+        }
+        body.flip();
+        int checksum = checksum(body.array(), body.limit());
+
+        if (boardCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, boardCount * 2);
+        }
+        offsets[boardCount++] = position;
+
+        out.write(body.array(), 0, 8);
+        out.writeInt(checksum);
+        out.write(body.array(), 8, body.limit() - 8);
+        position += RECORD_HEADER_BYTES + (long) entities.size() * ENTITY_BYTES;
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    public int getBoardCount() {
+        return boardCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (int i = 0; i < boardCount; i++) {
+            out.writeLong(offsets[i]);
+        }
+        out.writeInt(boardCount);
+        out.writeInt(MAGIC);
+        out.close();
+    }
+}
@@ -0,0 +1,180 @@
+package snakeladder;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random layout generator that scales to boards with millions of cells.
+ *
+ * Follows the same placement rules as Board.generateRandomEntities, but:
+ * - free cells are kept in a Fenwick tree, so a start or end is drawn
+ *   uniformly from the free cells of its range in O(log n) instead of by
+ *   retrying random cells until one is free
+ * - chain tails are kept in a union-find forest where each cell's root is
+ *   the cell a player would finally end up on, so the cycle check for a new
+ *   entity is a single find instead of a walk with a fresh HashSet
+ *
+ * Only a candidate that would close a cycle is redrawn, which is rare.
+ */
+public class BoardGenerator {
+    private static final int MAX_ATTEMPTS = 100;
+    private static final int MIN_LENGTH = 5;
+
+    private final RandomGenerator random;
+
+    public BoardGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    // Same entity counts as Board.generateRandomEntities
+    public Board generate(int size) {
+        return generate(size, size - 3, size - 3);
+    }
+
+    /**
+     * Scales the entity count with the board: density is the fraction of
+     * cells that start a snake or a ladder, split evenly between the two.
+     */
+    public Board generateWithDensity(int size, double density) {
+        int perKind = entitiesPerKind(size, density);
+        return generate(size, perKind, perKind);
+    }
+
+    static int entitiesPerKind(int size, double density) {
+        return (int) Math.round(density * ((long) size * size) / 2);
+    }
+
+    public Board generate(int size, int snakes, int ladders) {
+        Board board = new Board(size, random);
+        new Placement(size).place(board, snakes, ladders);
+        return board;
+    }
+
+    private class Placement {
+        private final int size;
+        private final int winningCell;
+        private final int[] freeTree; // Fenwick tree over cells not already used as an entity start
+        private final int[] chain;    // union-find parent; a root is where a chain of entities ends
+        private final int highestPowerOfTwo;
+
+        Placement(int size) {
+            this.size = size;
+            this.winningCell = size * size;
+            this.freeTree = new int[winningCell + 1];
+            this.chain = new int[winningCell + 1];
+
+            // Cells 2..winningCell-1 can hold entities; build the tree in O(n)
+            for (int cell = 2; cell < winningCell; cell++) {
+                freeTree[cell] = 1;
+            }
+            for (int cell = 1; cell <= winningCell; cell++) {
+                int parent = cell + (cell & -cell);
+                if (parent <= winningCell) {
+                    freeTree[parent] += freeTree[cell];
+                }
+                chain[cell] = cell;
+            }
+            this.highestPowerOfTwo = Integer.highestOneBit(winningCell);
+        }
+
+        void place(Board board, int snakes, int ladders) {
+            for (int i = 0; i < snakes; i++) {
+                placeSnake(board);
+            }
+            for (int i = 0; i < ladders; i++) {
+                placeLadder(board);
+            }
+        }
+
+        private void placeSnake(Board board) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int start = sampleFree(size + 2, winningCell - 2);
+                if (start < 0) {
+                    return;
+                }
+                int end = sampleFree(2, Math.min(start - MIN_LENGTH, winningCell - 1));
+                if (end > 0 && link(start, end)) {
+                    board.addEntityUnchecked(new Snake(start, end));
+                    return;
+                }
+            }
+        }
+
+        private void placeLadder(Board board) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int start = sampleFree(2, winningCell - size - 2);
+                if (start < 0) {
+                    return;
+                }
+                int end = sampleFree(start + MIN_LENGTH, winningCell - 1);
+                if (end > 0 && link(start, end)) {
+                    board.addEntityUnchecked(new Ladder(start, end));
+                    return;
+                }
+            }
+        }
+
+        // Adds start -> end unless it would close a cycle
+        private boolean link(int start, int end) {
+            if (tail(end) == start) {
+                return false;
+            }
+            chain[start] = end;
+            markUsed(start);
+            return true;
+        }
+
+        private int tail(int cell) {
+            while (chain[cell] != cell) {
+                chain[cell] = chain[chain[cell]]; // path halving
+                cell = chain[cell];
+            }
+            return cell;
+        }
+
+        // Uniform free cell in [low, high], or -1 if there is none
+        private int sampleFree(int low, int high) {
+            if (low < 2) {
+                low = 2;
+            }
+            if (high > winningCell - 1) {
+                high = winningCell - 1;
+            }
+            if (low > high) {
+                return -1;
+            }
+            int before = freeUpTo(low - 1);
+            int available = freeUpTo(high) - before;
+            if (available == 0) {
+                return -1;
+            }
+            return selectFree(before + random.nextInt(available) + 1);
+        }
+
+        private int freeUpTo(int cell) {
+            int count = 0;
+            for (int i = cell; i > 0; i -= i & -i) {
+                count += freeTree[i];
+            }
+            return count;
+        }
+
+        // Smallest cell with freeUpTo(cell) == rank
+        private int selectFree(int rank) {
+            int cell = 0;
+            for (int step = highestPowerOfTwo; step > 0; step >>= 1) {
+                int next = cell + step;
+                if (next <= winningCell && freeTree[next] < rank) {
+                    cell = next;
+                    rank -= freeTree[next];
+                }
+            }
+            return cell + 1;
+        }
+
+        private void markUsed(int cell) {
+            for (int i = cell; i <= winningCell; i += i & -i) {
+                freeTree[i]--;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package snakeladder;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Canonical identity of a board layout: its size and the (start, end) table
+ * of its snakes and ladders in start order. Two boards with the same layout
+ * get equal keys however their entities were added, so a key can stand in
+ * for a layout in caches. The 64-bit content hash only depends on the layout,
+ * not on the JVM, so it is also stable enough to name a layout in logs and
+ * files.
+ */
+public final class BoardKey {
+    private final int size;
+    private final int[] entities; // start, end pairs sorted by start
+    private final long contentHash;
+
+    private BoardKey(int size, int[] entities) {
+        this.size = size;
+        this.entities = entities;
+        long hash = mix(size);
+        for (int value : entities) {
+            hash = mix(hash ^ value);
+        }
+        this.contentHash = hash;
+    }
+
+    public static BoardKey of(int size, Collection<Entity> entities) {
+        long[] packed = new long[entities.size()];
+        int i = 0;
+        for (Entity entity : entities) {
+            packed[i++] = ((long) entity.getStart() << 32) | (entity.getEnd() & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed); // starts are positive and unique, so this sorts by start
+        int[] table = new int[packed.length * 2];
+        for (i = 0; i < packed.length; i++) {
+            table[2 * i] = (int) (packed[i] >>> 32);
+            table[2 * i + 1] = (int) packed[i];
+        }
+        return new BoardKey(size, table);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getEntityCount() {
+        return entities.length / 2;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BoardKey)) {
+            return false;
+        }
+        BoardKey key = (BoardKey) other;
+        return contentHash == key.contentHash && size == key.size && Arrays.equals(entities, key.entities);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (contentHash ^ (contentHash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return size + "x" + size + "/" + getEntityCount() + "/" + String.format("%016x", contentHash);
+    }
+
+    long estimatedBytes() {
+        return 32 + 4L * entities.length;
+    }
+
+    // SplitMix64 finaliser
+    private static long mix(long value) {
+        value += 0x9E3779B97F4A7C15L;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,101 @@
+package snakeladder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cell-indexed occupancy used by GameEngine. Each cell has one player slot,
+ * so finding who to kick out is a single array read, and the start cell just
+ * keeps a count because players never get kicked from there.
+ */
+public final class BoardOccupancy implements Occupancy {
+    private final Player[] occupants; // by cell; never used for the start cell
+    private int playersOnStart;
+
+    public BoardOccupancy(int winningCell, List<Player> players) {
+        this.occupants = new Player[winningCell + 1];
+        place(players);
+    }
+
+    // Rebuilds the occupancy from the players' current positions
+    public void place(List<Player> players) {
+        Arrays.fill(occupants, null);
+        playersOnStart = 0;
+        for (Player player : players) {
+            if (player.getPosition() == START_CELL) {
+                playersOnStart++;
+            } else if (occupants[player.getPosition()] != null) {
+                throw new IllegalArgumentException("Two players on cell " + player.getPosition());
+            } else {
+                occupants[player.getPosition()] = player;
+            }
+        }
+    }
+
+    @Override
+    public Player getOccupant(int cell) {
+        return occupants[cell];
+    }
+
+    @Override
+    public int countAt(int cell) {
+        if (cell == START_CELL) {
+            return playersOnStart;
+        }
+        return occupants[cell] == null ? 0 : 1;
+    }
+
+    @Override
+    public void moveToStart(Player player) {
+        leave(player);
+        player.setPosition(START_CELL);
+        playersOnStart++;
+    }
+
+    /**
+     * Moves player to cell. Whoever was already standing there is sent back
+     * to the start cell and returned; otherwise returns null.
+     */
+    public Player moveTo(Player player, int cell) {
+        if (cell == START_CELL) {
+            moveToStart(player);
+            return null;
+        }
+        leave(player);
+        Player kicked = occupants[cell];
+        if (kicked != null) {
+            kicked.setPosition(START_CELL);
+            playersOnStart++;
+        }
+        occupants[cell] = player;
+        player.setPosition(cell);
+        return kicked;
+    }
+
+    // Puts every player in the list back on the start cell
+    public void reset(List<Player> players) {
+        Arrays.fill(occupants, null);
+        playersOnStart = 0;
+        for (Player player : players) {
+            player.setPosition(START_CELL);
+            playersOnStart++;
+        }
+    }
+
+    /**
+     * Takes a player off the board without moving them, e.g. once they have
+     * finished, so later arrivals on their cell don't kick them.
+     */
+    public void remove(Player player) {
+        leave(player);
+    }
+
+    private void leave(Player player) {
+        int cell = player.getPosition();
+        if (cell == START_CELL) {
+            playersOnStart--;
+        } else if (occupants[cell] == player) {
+            occupants[cell] = null;
+        }
+    }
+}
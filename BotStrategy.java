@@ -1,5 +1,10 @@
 package snakeladder;
 
+/**
+ * Decides a bot's move when a roll allows more than one. GameEngine only asks
+ * when there is a real choice, for example in MoveMode.CHOOSE_DICE.
+ */
 public interface BotStrategy {
-    void takeTurn(BotPlayer player, DiceSet dice, Board board);
+    // Returns the index of the chosen move, 0 to choice.getMoveCount() - 1
+    int chooseMove(MoveChoice choice);
 }
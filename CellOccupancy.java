@@ -0,0 +1,139 @@
+package snakeladder;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy by seat number for games with many players per cell. Each cell
+ * heads an intrusive doubly linked list threaded through per-seat next/prev
+ * arrays, so moving a seat is O(1) and clearing a cell is O(players on it),
+ * with no objects per player or per cell.
+ *
+ * Memory is one int per cell plus three ints per seat.
+ */
+public final class CellOccupancy {
+    public static final int NONE = -1;
+
+    private static final int START = Occupancy.START_CELL;
+
+    private final int[] head; // by cell: first seat on it, or NONE
+    private final int[] next; // by seat
+    private final int[] prev; // by seat, NONE for the first seat on a cell
+    private final int[] cell; // by seat
+    private int playersOnStart;
+
+    public CellOccupancy(int winningCell, int seats) {
+        this.head = new int[winningCell + 1];
+        this.next = new int[seats];
+        this.prev = new int[seats];
+        this.cell = new int[seats];
+        Arrays.fill(head, NONE);
+        for (int seat = 0; seat < seats; seat++) {
+            cell[seat] = START;
+            link(seat, START);
+        }
+    }
+
+    public int getSeatCount() {
+        return cell.length;
+    }
+
+    public int cellOf(int seat) {
+        return cell[seat];
+    }
+
+    // First seat on cell, or NONE; continue with nextOnCell
+    public int firstAt(int cell) {
+        return head[cell];
+    }
+
+    public int nextOnCell(int seat) {
+        return next[seat];
+    }
+
+    // O(1) for the start cell, otherwise O(players on the cell)
+    public int countAt(int cell) {
+        if (cell == START) {
+            return playersOnStart;
+        }
+        int count = 0;
+        for (int seat = head[cell]; seat != NONE; seat = next[seat]) {
+            count++;
+        }
+        return count;
+    }
+
+    public void moveTo(int seat, int target) {
+        if (cell[seat] == target) {
+            return;
+        }
+        unlink(seat);
+        cell[seat] = target;
+        link(seat, target);
+    }
+
+    /**
+     * Sends everyone on target except keep back to the start cell and
+     * returns how many moved. Each seat moved was put there by an earlier
+     * moveTo, so over a game this costs O(1) per move.
+     */
+    public int sendToStart(int target, int keep) {
+        if (target == START) {
+            return 0;
+        }
+        int moved = 0;
+        int seat = head[target];
+        while (seat != NONE) {
+            int following = next[seat];
+            if (seat != keep) {
+                moveTo(seat, START);
+                moved++;
+            }
+            seat = following;
+        }
+        return moved;
+    }
+
+    // Puts every seat back on the start cell in O(seats), however big the board
+    public void reset() {
+        for (int seat = 0; seat < cell.length; seat++) {
+            head[cell[seat]] = NONE;
+        }
+        playersOnStart = 0;
+        for (int seat = 0; seat < cell.length; seat++) {
+            cell[seat] = START;
+            link(seat, START);
+        }
+    }
+
+    public long estimatedBytes() {
+        return 4L * head.length + 12L * cell.length;
+    }
+
+    private void link(int seat, int target) {
+        int first = head[target];
+        next[seat] = first;
+        prev[seat] = NONE;
+        if (first != NONE) {
+            prev[first] = seat;
+        }
+        head[target] = seat;
+        if (target == START) {
+            playersOnStart++;
+        }
+    }
+
+    private void unlink(int seat) {
+        int from = cell[seat];
+        if (prev[seat] == NONE) {
+            head[from] = next[seat];
+        } else {
+            next[prev[seat]] = next[seat];
+        }
+        if (next[seat] != NONE) {
+            prev[next[seat]] = prev[seat];
+        }
+        if (from == START) {
+            playersOnStart--;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package snakeladder;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * In-process GameIO. The hosting code pushes player lines in with send()
+ * and receives everything the game prints through the output callback.
+ */
+public class ChannelIO implements GameIO {
+    private static final String CLOSED = new String("<closed>"); // compared by identity
+
+    private final BlockingQueue<String> input;
+    private final Consumer<String> output;
+
+    public ChannelIO(Consumer<String> output) {
+        this.input = new LinkedBlockingQueue<>();
+        this.output = output;
+    }
+
+    public void send(String line) {
+        input.add(line);
+    }
+
+    @Override
+    public String readLine() {
+        try {
+            String line = input.take();
+            if (line == CLOSED) {
+                input.add(CLOSED); // keep later reads failing too
+                throw new NoSuchElementException("Input closed");
+            }
+            return line;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoSuchElementException("Interrupted while waiting for input");
+        }
+    }
+
+    @Override
+    public void print(String text) {
+        output.accept(text);
+    }
+
+    @Override
+    public void close() {
+        input.add(CLOSED);
+    }
+}
@@ -0,0 +1,80 @@
+package snakeladder;
+
+import java.util.Map;
+
+/**
+ * Immutable, array-backed form of a Board used on the move hot path.
+ *
+ * jumpTable[cell] holds the cell a player finally ends up on after landing on
+ * cell, with chained snakes and ladders already followed. Cells without an
+ * entity map to themselves, so a lookup is a single array read with no boxing
+ * or output. Instances are safe to share between threads.
+ */
+public final class CompiledBoard {
+    private final BoardKey layoutKey;
+    private final int size;
+    private final int winningCell;
+    private final int[] hopTable;  // one entity step
+    private final int[] jumpTable; // all entity steps resolved
+
+    CompiledBoard(BoardKey layoutKey, int winningCell, Map<Integer, Entity> entities) {
+        this.layoutKey = layoutKey;
+        this.size = layoutKey.getSize();
+        this.winningCell = winningCell;
+        this.hopTable = new int[winningCell + 1];
+        this.jumpTable = new int[winningCell + 1];
+
+        for (int cell = 0; cell <= winningCell; cell++) {
+            hopTable[cell] = cell;
+        }
+        for (Entity entity : entities.values()) {
+            hopTable[entity.getStart()] = entity.getEnd();
+        }
+        for (int cell = 0; cell <= winningCell; cell++) {
+            jumpTable[cell] = resolve(cell, entities.size());
+        }
+    }
+
+    private int resolve(int cell, int maxHops) {
+        int current = cell;
+        for (int hops = 0; hopTable[current] != current; hops++) {
+            if (hops == maxHops) {
+                throw new IllegalStateException("Snakes and ladders form a cycle through cell " + cell);
+            }
+            current = hopTable[current];
+        }
+        return current;
+    }
+
+    public int getNextPosition(int currentPosition) {
+        return jumpTable[currentPosition];
+    }
+
+    public boolean hasEntityAt(int cell) {
+        return hopTable[cell] != cell;
+    }
+
+    /**
+     * Where the entity starting at cell leads in one step, without following
+     * chains. Returns cell itself when there is no entity there.
+     */
+    public int getEntityEnd(int cell) {
+        return hopTable[cell];
+    }
+
+    public BoardKey getLayoutKey() {
+        return layoutKey;
+    }
+
+    long estimatedBytes() {
+        return 64 + 8L * (winningCell + 1) + layoutKey.estimatedBytes();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinningCell() {
+        return winningCell;
+    }
+}
@@ -0,0 +1,175 @@
+package snakeladder;
+
+/**
+ * Simulates many bot-only games at once with all game state in flat
+ * primitive arrays, indexed by lane (one in-flight game) and seat. Each
+ * step() plays one turn in every active lane against a shared CompiledBoard,
+ * so there are no Player objects, turn queues or rule lists per game.
+ *
+ * Implements the default rule set (GameEngine.DEFAULT_RULES) with the same
+ * semantics as GameEngine: exact win, kick-out, the three-sixes penalty and
+ * an extra turn for a 6, including after an overshoot. Results feed the same
+ * SimulationResult as GameSimulator, though the dice are drawn in lane order
+ * rather than game by game, and each roll is one DiceSet.rollOutcome draw
+ * instead of one draw per die.
+ */
+public class DenseSimulator {
+    public static final int DEFAULT_LANES = 1 << 16;
+
+    private static final int START = Occupancy.START_CELL;
+
+    private final CompiledBoard board;
+    private final DiceSet diceSet;
+    private final int seats;
+    private final int lanes;
+    private final int maxTurns;
+    private final int winningCell;
+
+    // By lane * seats + seat
+    private final int[] positions;
+    private final byte[] consecutiveSixes;
+    // By lane
+    private final int[] nextSeat;
+    private final int[] turns;
+    private final int[] snakeHits;
+    private final int[] ladderHits;
+
+    public DenseSimulator(Board board, DiceSet diceSet, int seats) {
+        this(board, diceSet, seats, DEFAULT_LANES, GameSimulator.DEFAULT_MAX_TURNS);
+    }
+
+    public DenseSimulator(Board board, DiceSet diceSet, int seats, int lanes, int maxTurns) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Simulation needs at least one seat");
+        }
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lanes must be positive");
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Max turns must be positive");
+        }
+        if ((long) lanes * seats > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many lanes for " + seats + " seats");
+        }
+        this.board = board.compile();
+        this.diceSet = diceSet;
+        this.seats = seats;
+        this.lanes = lanes;
+        this.maxTurns = maxTurns;
+        this.winningCell = this.board.getWinningCell();
+        this.positions = new int[lanes * seats];
+        this.consecutiveSixes = new byte[lanes * seats];
+        this.nextSeat = new int[lanes];
+        this.turns = new int[lanes];
+        this.snakeHits = new int[lanes];
+        this.ladderHits = new int[lanes];
+    }
+
+    /**
+     * Plays the given number of games, keeping up to `lanes` of them in
+     * flight. A lane whose game ends starts the next one straight away.
+     */
+    public SimulationResult run(long games) {
+        SimulationResult result = new SimulationResult(seats, maxTurns);
+        int active = (int) Math.min(games, lanes);
+        for (int lane = 0; lane < active; lane++) {
+            resetLane(lane);
+        }
+        long started = active;
+
+        while (active > 0) {
+            int lane = 0;
+            while (lane < active) {
+                int winner = playTurn(lane);
+                if (winner < 0 && turns[lane] < maxTurns) {
+                    lane++;
+                    continue;
+                }
+                result.recordGame(winner, turns[lane], snakeHits[lane], ladderHits[lane]);
+                if (started < games) {
+                    resetLane(lane);
+                    started++;
+                    lane++;
+                } else {
+                    // Keep active lanes contiguous; the moved lane hasn't played this step yet
+                    active--;
+                    moveLane(active, lane);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Plays the next turn in a lane and returns the winning seat, or -1
+    private int playTurn(int lane) {
+        int base = lane * seats;
+        int seat = nextSeat[lane];
+        int slot = base + seat;
+        int packed = diceSet.rollOutcome();
+        int sum = DiceSet.sumOf(packed);
+        boolean six = DiceSet.sixCountOf(packed) > 0;
+        turns[lane]++;
+
+        int target = positions[slot] + sum;
+        boolean extraTurn;
+        if (target > winningCell) {
+            // Exact win: stay put; the streak is untouched but a 6 still earns an extra turn
+            extraTurn = six;
+        } else {
+            int landed = board.getNextPosition(target);
+            snakeHits[lane] += landed < target ? 1 : 0;
+            ladderHits[lane] += landed > target ? 1 : 0;
+            if (landed != START) {
+                // Kick-out: anyone else on the landing cell goes back to start
+                for (int other = base; other < base + seats; other++) {
+                    positions[other] = positions[other] == landed && other != slot ? START : positions[other];
+                }
+            }
+            positions[slot] = landed;
+
+            if (six) {
+                int streak = consecutiveSixes[slot] + 1;
+                if (streak >= 3) {
+                    positions[slot] = START;
+                    consecutiveSixes[slot] = 0;
+                    extraTurn = false;
+                } else {
+                    consecutiveSixes[slot] = (byte) streak;
+                    extraTurn = true;
+                }
+            } else {
+                consecutiveSixes[slot] = 0;
+                extraTurn = false;
+            }
+        }
+
+        if (positions[slot] == winningCell) {
+            return seat;
+        }
+        if (!extraTurn) {
+            nextSeat[lane] = seat + 1 == seats ? 0 : seat + 1;
+        }
+        return -1;
+    }
+
+    private void resetLane(int lane) {
+        int base = lane * seats;
+        for (int slot = base; slot < base + seats; slot++) {
+            positions[slot] = START;
+            consecutiveSixes[slot] = 0;
+        }
+        nextSeat[lane] = 0;
+        turns[lane] = 0;
+        snakeHits[lane] = 0;
+        ladderHits[lane] = 0;
+    }
+
+    private void moveLane(int from, int to) {
+        System.arraycopy(positions, from * seats, positions, to * seats, seats);
+        System.arraycopy(consecutiveSixes, from * seats, consecutiveSixes, to * seats, seats);
+        nextSeat[to] = nextSeat[from];
+        turns[to] = turns[from];
+        snakeHits[to] = snakeHits[from];
+        ladderHits[to] = ladderHits[from];
+    }
+}
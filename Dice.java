@@ -1,7 +1,13 @@
 package snakeladder;
 
+import java.util.Collections;
 import java.util.List;
 
 public interface Dice {
-    List<Integer> roll();
+    int rollValue();
+
+    // Boxed form kept for existing callers; prefer rollValue() on hot paths
+    default List<Integer> roll() {
+        return Collections.singletonList(rollValue());
+    }
 }
@@ -0,0 +1,315 @@
+package snakeladder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Exact distribution of one roll of `count` dice with `faces` faces each:
+ * the probability of every sum, split by whether any die shows a six, as
+ * DiceSet.rollPacked and the six rules see it.
+ *
+ * Built once per (count, faces) and shared. The n-fold sum is found by
+ * raising the single-die distribution to the n-th convolution power by
+ * repeated squaring, so 1,000 dice take about 20 convolutions; long ones go
+ * through an FFT, with the tails (where FFT rounding would dominate) summed
+ * directly, so impossible sums are exactly zero and tiny probabilities keep
+ * their relative accuracy. Sums that "contain a six" are the total minus the
+ * sums of dice that all avoid the six face, which are found the same way.
+ *
+ * sample() draws a whole roll from an alias table in O(1), whatever the
+ * dice count.
+ */
+public final class DiceDistribution {
+    private static final int SIX = 6;
+    private static final int DIRECT_CONVOLUTION_LIMIT = 64; // shorter inputs skip the FFT
+    private static final double FFT_RELATIVE_ACCURACY = 1e-4; // FFT values below this share of the peak are re-summed
+
+    private static final Map<Long, DiceDistribution> CACHE = new ConcurrentHashMap<>();
+
+    private final int count;
+    private final int faces;
+    private final double[] total;   // by sum
+    private final double[] withSix; // by sum, at least one die shows a six
+
+    // Alias table over the (sum, six) outcomes with non-zero probability
+    private final int[] outcome;    // packed as DiceSet.rollPacked, six count 0 or 1
+    private final double[] keep;
+    private final int[] alias;
+
+    private DiceDistribution(int count, int faces) {
+        this.count = count;
+        this.faces = faces;
+
+        double[] die = new double[faces + 1];
+        double[] dieWithoutSix = new double[faces + 1];
+        for (int face = 1; face <= faces; face++) {
+            die[face] = 1.0 / faces;
+            dieWithoutSix[face] = face == SIX ? 0 : 1.0 / faces;
+        }
+        this.total = power(die, count);
+        double[] withoutSix = faces >= SIX ? power(dieWithoutSix, count) : total;
+        this.withSix = new double[total.length];
+        for (int sum = 0; sum < total.length; sum++) {
+            withSix[sum] = Math.max(0, total[sum] - withoutSix[sum]);
+        }
+
+        int outcomes = 0;
+        for (int sum = 0; sum < total.length; sum++) {
+            outcomes += (withSix[sum] > 0 ? 1 : 0) + (total[sum] - withSix[sum] > 0 ? 1 : 0);
+        }
+        this.outcome = new int[outcomes];
+        double[] probability = new double[outcomes];
+        int next = 0;
+        for (int sum = 0; sum < total.length; sum++) {
+            for (int six = 0; six < 2; six++) {
+                double p = getProbability(sum, six == 1);
+                if (p > 0) {
+                    outcome[next] = (sum << 16) | six;
+                    probability[next++] = p;
+                }
+            }
+        }
+        this.keep = new double[outcomes];
+        this.alias = new int[outcomes];
+        buildAlias(probability);
+    }
+
+    public static DiceDistribution of(int count, int faces) {
+        if (count < 1 || faces < 1) {
+            throw new IllegalArgumentException("Need at least one die with at least one face");
+        }
+        if ((long) count * faces >= 1 << 15) {
+            throw new IllegalArgumentException("Dice sums must stay below " + (1 << 15));
+        }
+        return CACHE.computeIfAbsent(((long) count << 32) | faces, key -> new DiceDistribution(count, faces));
+    }
+
+    public static DiceDistribution of(DiceSet diceSet) {
+        return of(diceSet.getDiceCount(), diceSet.getFaces());
+    }
+
+    public int getDiceCount() {
+        return count;
+    }
+
+    public int getFaces() {
+        return faces;
+    }
+
+    public int getMinSum() {
+        return count;
+    }
+
+    public int getMaxSum() {
+        return count * faces;
+    }
+
+    // P(sum); zero outside getMinSum()..getMaxSum()
+    public double getProbability(int sum) {
+        return sum >= 0 && sum < total.length ? total[sum] : 0;
+    }
+
+    // P(sum and whether any die shows a six)
+    public double getProbability(int sum, boolean containsSix) {
+        if (sum < 0 || sum >= total.length) {
+            return 0;
+        }
+        return containsSix ? withSix[sum] : Math.max(0, total[sum] - withSix[sum]);
+    }
+
+    public double getSixProbability() {
+        return faces < SIX ? 0 : 1 - Math.pow((faces - 1.0) / faces, count);
+    }
+
+    public double getMean() {
+        return count * (faces + 1) / 2.0;
+    }
+
+    /**
+     * table[sum][1] is P(sum and at least one six), table[sum][0] the rest,
+     * for sums 0..getMaxSum(). A fresh copy each call.
+     */
+    public double[][] getJointTable() {
+        double[][] table = new double[total.length][2];
+        for (int sum = 0; sum < total.length; sum++) {
+            table[sum][0] = getProbability(sum, false);
+            table[sum][1] = withSix[sum];
+        }
+        return table;
+    }
+
+    /**
+     * One roll from a single uniform draw, packed like DiceSet.rollPacked;
+     * DiceSet.sixCountOf is 1 when any die shows a six.
+     */
+    public int sample(RandomGenerator random) {
+        double u = random.nextDouble() * outcome.length;
+        int i = (int) u;
+        return u - i < keep[i] ? outcome[i] : outcome[alias[i]];
+    }
+
+    // Vose's alias method: every column keeps part of its own outcome and tops up from one other
+    private void buildAlias(double[] probability) {
+        int n = probability.length;
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probability[i] * n;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            keep[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // Whatever is left is 1 up to rounding
+        while (!large.isEmpty()) {
+            keep[large.peek()] = 1.0;
+            alias[large.peek()] = large.pop();
+        }
+        while (!small.isEmpty()) {
+            keep[small.peek()] = 1.0;
+            alias[small.peek()] = small.pop();
+        }
+    }
+
+    // The n-fold convolution of pmf with itself, by repeated squaring
+    private static double[] power(double[] pmf, int n) {
+        double[] result = {1.0};
+        double[] base = pmf;
+        for (int remaining = n; remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) != 0) {
+                result = convolve(result, base);
+            }
+            if (remaining > 1) {
+                base = convolve(base, base);
+            }
+        }
+        return result;
+    }
+
+    static double[] convolve(double[] a, double[] b) {
+        int length = a.length + b.length - 1;
+        if (Math.min(a.length, b.length) <= DIRECT_CONVOLUTION_LIMIT) {
+            double[] result = new double[length];
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != 0) {
+                    for (int j = 0; j < b.length; j++) {
+                        result[i + j] += a[i] * b[j];
+                    }
+                }
+            }
+            return result;
+        }
+
+        int size = Integer.highestOneBit(length - 1) << 1;
+        double[] re = new double[size];
+        double[] im = new double[size];
+        double[] otherRe = new double[size];
+        double[] otherIm = new double[size];
+        System.arraycopy(a, 0, re, 0, a.length);
+        System.arraycopy(b, 0, otherRe, 0, b.length);
+        fft(re, im, false);
+        fft(otherRe, otherIm, false);
+        for (int i = 0; i < size; i++) {
+            double r = re[i] * otherRe[i] - im[i] * otherIm[i];
+            im[i] = re[i] * otherIm[i] + im[i] * otherRe[i];
+            re[i] = r;
+        }
+        fft(re, im, true);
+
+        // The FFT is only accurate relative to the peak: outside the support it leaves noise instead of zeros,
+        // and small tail values are swamped. Those are summed directly, which has no cancellation.
+        double[] result = new double[length];
+        int aLow = firstNonZero(a);
+        int bLow = firstNonZero(b);
+        if (aLow < 0 || bLow < 0) {
+            return result; // everything underflowed, e.g. thousands of dice avoiding the six
+        }
+        int aHigh = lastNonZero(a);
+        int bHigh = lastNonZero(b);
+        double peak = 0;
+        for (int i = aLow + bLow; i <= aHigh + bHigh; i++) {
+            result[i] = re[i] / size;
+            peak = Math.max(peak, result[i]);
+        }
+        for (int i = aLow + bLow; i <= aHigh + bHigh; i++) {
+            if (result[i] < FFT_RELATIVE_ACCURACY * peak) {
+                double sum = 0;
+                for (int j = Math.max(aLow, i - bHigh); j <= Math.min(aHigh, i - bLow); j++) {
+                    sum += a[j] * b[i - j];
+                }
+                result[i] = sum;
+            }
+        }
+        return result;
+    }
+
+    // -1 if every entry is zero
+    private static int firstNonZero(double[] pmf) {
+        for (int i = 0; i < pmf.length; i++) {
+            if (pmf[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastNonZero(double[] pmf) {
+        int i = pmf.length - 1;
+        while (pmf[i] == 0) {
+            i--;
+        }
+        return i;
+    }
+
+    // In-place iterative radix-2 FFT; size must be a power of two
+    private static void fft(double[] re, double[] im, boolean inverse) {
+        int n = re.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+        double[] cos = new double[n / 2];
+        double[] sin = new double[n / 2];
+        for (int k = 0; k < n / 2; k++) {
+            cos[k] = Math.cos(2 * Math.PI * k / n);
+            sin[k] = (inverse ? 1 : -1) * Math.sin(2 * Math.PI * k / n);
+        }
+        for (int length = 2; length <= n; length <<= 1) {
+            int stride = n / length;
+            for (int i = 0; i < n; i += length) {
+                for (int k = 0; k < length / 2; k++) {
+                    double wRe = cos[k * stride];
+                    double wIm = sin[k * stride];
+                    int even = i + k;
+                    int odd = even + length / 2;
+                    double oddRe = re[odd] * wRe - im[odd] * wIm;
+                    double oddIm = re[odd] * wIm + im[odd] * wRe;
+                    re[odd] = re[even] - oddRe;
+                    im[odd] = im[even] - oddIm;
+                    re[even] += oddRe;
+                    im[even] += oddIm;
+                }
+            }
+        }
+    }
+}
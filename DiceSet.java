@@ -1,26 +1,110 @@
 package snakeladder;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class DiceSet {
+    // rollPacked() keeps the number of sixes in the low bits and the sum above them
+    private static final int SIX_COUNT_BITS = 16;
+    private static final int SIX_COUNT_MASK = (1 << SIX_COUNT_BITS) - 1;
+
     private final List<StandardDice> diceList;
+    private final RandomGenerator random; // for rollOutcome
+    private DiceDistribution distribution;
 
     public DiceSet(int count, int faces) {
+        this.random = new Random();
         this.diceList = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             diceList.add(new StandardDice(faces));
         }
     }
 
+    // All dice draw from the given generator, which must not be shared across threads
+    public DiceSet(int count, int faces, RandomGenerator random) {
+        this.random = random;
+        this.diceList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            diceList.add(new StandardDice(faces, random));
+        }
+    }
+
     public List<Integer> rollAll() {
-        List<Integer> results = new ArrayList<>();
-        for (StandardDice dice : diceList) {
-            results.addAll(dice.roll());
+        List<Integer> results = new ArrayList<>(diceList.size());
+        for (int i = 0; i < diceList.size(); i++) {
+            results.add(diceList.get(i).rollValue());
         }
         return results;
     }
 
+    /**
+     * Rolls every die into values[0..getDiceCount()-1] and returns the sum.
+     * Allocates nothing, so callers can reuse one array for every turn.
+     */
+    public int rollInto(int[] values) {
+        int sum = 0;
+        for (int i = 0; i < diceList.size(); i++) {
+            int value = diceList.get(i).rollValue();
+            values[i] = value;
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Rolls every die and returns the sum and the number of sixes packed into
+     * one int; unpack with sumOf and sixCountOf.
+     */
+    public int rollPacked() {
+        int sum = 0;
+        int sixes = 0;
+        for (int i = 0; i < diceList.size(); i++) {
+            int value = diceList.get(i).rollValue();
+            sum += value;
+            if (value == 6) {
+                sixes++;
+            }
+        }
+        return (sum << SIX_COUNT_BITS) | sixes;
+    }
+
+    /**
+     * Same distribution of sum and "any six" as rollPacked, from a single
+     * draw on the exact DiceDistribution, so the cost doesn't grow with the
+     * dice count. The six count is 1 when any die shows a six. For callers
+     * that don't need the individual dice.
+     */
+    public int rollOutcome() {
+        DiceDistribution table = distribution;
+        if (table == null) {
+            table = DiceDistribution.of(this);
+            distribution = table;
+        }
+        return table.sample(random);
+    }
+
+    public static int sumOf(int packedRoll) {
+        return packedRoll >>> SIX_COUNT_BITS;
+    }
+
+    public static int sixCountOf(int packedRoll) {
+        return packedRoll & SIX_COUNT_MASK;
+    }
+
+    public static boolean containsSix(int[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == 6) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public int getDiceCount() {
         return diceList.size();
     }
+
+    public int getFaces() {
+        return diceList.isEmpty() ? 0 : diceList.get(0).getFaces();
+    }
 }
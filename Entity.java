@@ -4,5 +4,5 @@ public interface Entity {
     int getStart();
     int getEnd();
     String getType();
-    int handleMovement(int currentPosition);
+    int handleMovement(int currentPosition, GameLog log);
 }
@@ -1,152 +1,597 @@
 package snakeladder;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class GameEngine {
+    // Rules hold no per-game state, so every engine can share these instances
+    public static final List<Rule> DEFAULT_RULES = List.of(
+            new ExactWinRule(),
+            new KickOutRule(),
+            new ConsecutiveSixRule(),
+            new ExtraTurnRule()
+    );
+
     private final Board board;
+    private final CompiledBoard compiledBoard;
     private final DiceSet diceSet;
     private final List<Player> players;
-    private final Map<Integer, Player> positionMap;
+    private final BoardOccupancy occupancy;
     private final List<Rule> rules;
-    private final Scanner scanner;
+    private final TurnResolver turnResolver;
+    private final RuleContext ruleContext;
+    private final GameEventSink events;
+    private final GameEvent event = new GameEvent(); // reused for every published event
+    private final int[] rolls; // reused for every roll
+    private final TurnScheduler scheduler;
+    private final int[] finishOrder; // seats in the order they finished
+    private int finishedCount;
+    private boolean rankAll;
+    private GameIO io;
     private boolean useManualDice; // true = manual input, false = random rolls
+    private boolean interactive; // humans are asked for their choices
+    private MoveMode moveMode = MoveMode.SUM;
+    private MoveChoice moveChoice;   // reused for every choice; null in SUM mode
+    private boolean[] subsetSumSeen; // scratch for listing moves, by cell count
+    private BotStrategy moveScript;  // chooses for every seat when set, as in a replay
+    private int turnCount;
+    private int snakeHits;
+    private int ladderHits;
+    private GameMetrics metrics = GameMetrics.DISABLED;
+    private int[] ruleSlots; // metrics histogram for each rule, by position in rules; null while disabled
 
     public GameEngine(Board board, DiceSet diceSet, List<Player> players) {
+        this(board, diceSet, players, GameLog.CONSOLE);
+    }
+
+    public GameEngine(Board board, DiceSet diceSet, List<Player> players, GameLog log) {
+        this(board, diceSet, players, GameEventSink.text(log), DEFAULT_RULES);
+    }
+
+    public GameEngine(Board board, DiceSet diceSet, List<Player> players, GameEventSink events) {
+        this(board, diceSet, players, events, DEFAULT_RULES);
+    }
+
+    public GameEngine(Board board, DiceSet diceSet, List<Player> players, GameEventSink events, List<Rule> rules) {
         this.board = board;
+        this.compiledBoard = board.compile();
         this.diceSet = diceSet;
         this.players = players;
-        this.positionMap = new HashMap<>();
-        this.rules = List.of(
-                new ExactWinRule(),
-                new KickOutRule(),
-                new ConsecutiveSixRule(),
-                new ExtraTurnRule()
-        );
-        this.scanner = new Scanner(System.in);
+        this.occupancy = new BoardOccupancy(board.getWinningCell(), players);
+        this.events = events;
+        this.rolls = new int[diceSet.getDiceCount()];
+        this.scheduler = new TurnScheduler(players.size());
+        this.finishOrder = new int[players.size()];
+        this.rules = List.copyOf(rules);
+        this.turnResolver = RuleCompiler.compile(rules);
+        this.ruleContext = new RuleContext(board, occupancy, players.size(), events);
     }
 
     public void play() {
+        play(new StreamIO(System.in, System.out));
+    }
+
+    /**
+     * Plays an interactive game reading input from and printing prompts to
+     * the given GameIO, which is closed when the game ends. Turn events
+     * still go to this engine's GameEventSink.
+     */
+    public void play(GameIO io) {
+        this.io = io;
+        this.interactive = true;
+
         // Setup dice mode preference before starting the game
         setupDiceMode();
         
         boolean finished = false;
-        LinkedList<Player> turnQueue = new LinkedList<>(players);
 
         while (!finished) {
-            Player current = turnQueue.poll();
-            System.out.println("\n" + current.getName() + "'s turn");
+            Player current = players.get(scheduler.current());
+            io.println("\n" + current.getName() + "'s turn");
             
             // Only wait for Enter if using random dice (bots always, humans in random mode)
             if (current.isBot() || !useManualDice) {
                 waitForUserInput(current.getName());
             }
 
-            boolean extraTurn = takeTurn(current);
-
-            if (current.getPosition() == board.getWinningCell()) {
-                System.out.println("\n" + current.getName() + " wins the game!");
+            if (playNextTurn()) {
                 finished = true;
-            } else {
-                if (extraTurn) {
-                    turnQueue.addFirst(current); // Add to front for immediate extra turn
-                } else {
-                    turnQueue.offer(current); // Add to back for normal turn order
-                }
             }
             printBoardStatus();
         }
         
-        // Close scanner when game ends
-        scanner.close();
+        // Close input when game ends
+        io.close();
     }
 
-    private boolean takeTurn(Player player) {
-        List<Integer> rolls;
+    /**
+     * Plays the game to completion without reading from stdin. Every player
+     * rolls randomly, and events go to this engine's GameEventSink.
+     *
+     * @return the winner, or null if nobody won within maxTurns
+     */
+    public Player playHeadless(int maxTurns) {
+        while (!isOver() && turnCount < maxTurns) {
+            if (playTurn()) {
+                break;
+            }
+        }
+        return getWinner();
+    }
+
+    /**
+     * Plays a single turn with random dice, for callers that step through a
+     * game themselves.
+     *
+     * @return true when that turn ended the game
+     */
+    public boolean playTurn() {
+        useManualDice = false;
+        interactive = false;
+        return playNextTurn();
+    }
+
+    /**
+     * Starts recording counters and timings into metrics. With
+     * GameMetrics.DISABLED (the default) the turn path skips all of it and
+     * keeps using the compiled resolver. Set it once per engine; setting the
+     * same metrics again does nothing.
+     */
+    public void setMetrics(GameMetrics metrics) {
+        if (metrics == this.metrics) {
+            return;
+        }
+        this.metrics = metrics;
+        if (!metrics.isEnabled()) {
+            this.ruleSlots = null;
+            return;
+        }
+        this.ruleSlots = new int[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            ruleSlots[i] = metrics.ruleSlot(rules.get(i).getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Changes how rolls become moves. In CHOOSE_DICE mode bots decide through
+     * their BotStrategy and interactive humans are asked; headless humans
+     * play the full roll.
+     */
+    public void setMoveMode(MoveMode moveMode) {
+        this.moveMode = moveMode;
+        if (moveMode == MoveMode.SUM) {
+            moveChoice = null;
+            subsetSumSeen = null;
+            return;
+        }
+        int diceCount = diceSet.getDiceCount();
+        if (diceCount > 16) {
+            throw new IllegalArgumentException("Choosing dice supports up to 16 dice");
+        }
+        int maxSum = diceCount * diceSet.getFaces();
+        int subsets = (1 << diceCount) - 1;
+        moveChoice = new MoveChoice(compiledBoard, diceSet.getFaces(), moveMode, Math.min(subsets, maxSum) + 1);
+        subsetSumSeen = new boolean[maxSum + 1];
+    }
+
+    /**
+     * Makes every seat's move choice come from script, humans and bots
+     * alike, so GameReplay can follow recorded choices. Null (the default)
+     * goes back to the players' own strategies. Forks don't inherit it.
+     */
+    void setMoveScript(BotStrategy script) {
+        this.moveScript = script;
+    }
+
+    /**
+     * When true, the game carries on after the first winner until every
+     * player but one has finished, so getRanking() covers every seat.
+     * Finished players leave the board and the turn order.
+     */
+    public void setRankAll(boolean rankAll) {
+        this.rankAll = rankAll;
+    }
+
+    // The first player to finish, or null if nobody has yet
+    public Player getWinner() {
+        return finishedCount == 0 ? null : players.get(finishOrder[0]);
+    }
+
+    // Seat of the first player to finish, or -1
+    int getWinnerSeat() {
+        return finishedCount == 0 ? -1 : finishOrder[0];
+    }
+
+    // Players in finishing order; once a rank-all game ends the last player is included too
+    public List<Player> getRanking() {
+        List<Player> ranking = new ArrayList<>(finishedCount);
+        for (int i = 0; i < finishedCount; i++) {
+            ranking.add(players.get(finishOrder[i]));
+        }
+        return ranking;
+    }
+
+    // True once someone has won, or in a rank-all game once every seat is placed
+    public boolean isOver() {
+        return finishedCount > 0 && (!rankAll || scheduler.getActiveCount() <= 1);
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getSnakeHits() {
+        return snakeHits;
+    }
+
+    public int getLadderHits() {
+        return ladderHits;
+    }
+
+    /**
+     * Starts a new game with the same board, dice, players and settings:
+     * everyone back on the start cell, the first seat to move and every
+     * counter cleared. Allocates nothing, so a simulator can play all its
+     * games on one engine.
+     */
+    public void reset() {
+        turnCount = 0;
+        snakeHits = 0;
+        ladderHits = 0;
+        finishedCount = 0;
+        scheduler.reset(0);
+        for (int seat = 0; seat < players.size(); seat++) {
+            ruleContext.setConsecutiveSixes(seat, 0);
+        }
+        occupancy.reset(players);
+    }
+
+    // The state of the game right now; cheap enough to take every turn
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(saveState());
+    }
+
+    // Puts the game back exactly as it was when the snapshot was taken, apart from the dice generator
+    public void restore(GameSnapshot snapshot) {
+        restoreState(snapshot.state());
+    }
+
+    /**
+     * A new headless engine that continues this game from snapshot with its
+     * own dice generator. It shares the board, its jump table and the rules,
+     * and gets fresh players with the same names and strategies, so forks
+     * can run on separate threads. Move mode, rank-all and metrics carry
+     * over; events do not. Restore further snapshots into the fork to reuse
+     * it for more continuations.
+     */
+    public GameEngine fork(GameSnapshot snapshot, RandomGenerator random) {
+        List<Player> copies = new ArrayList<>(players.size());
+        for (Player player : players) {
+            copies.add(player instanceof BotPlayer
+                    ? PlayerFactory.createBot(player.getName(), ((BotPlayer) player).getStrategy())
+                    : PlayerFactory.createHuman(player.getName()));
+        }
+        GameEngine fork = new GameEngine(board, new DiceSet(diceSet.getDiceCount(), diceSet.getFaces(), random),
+                copies, GameEventSink.NONE, rules);
+        fork.setMoveMode(moveMode);
+        fork.setRankAll(rankAll);
+        fork.setMetrics(metrics);
+        fork.restore(snapshot);
+        return fork;
+    }
+
+    /**
+     * Everything needed to continue the game from this point, packed as
+     * [turnCount, snakeHits, ladderHits, currentSeat, finishedCount,
+     * positions..., consecutiveSixes..., skips..., finishOrder...].
+     * Seats stay in seat order in the scheduler's ring, so the current seat
+     * and the finished seats are enough to rebuild it.
+     */
+    int[] saveState() {
+        int seats = players.size();
+        int[] state = new int[5 + 4 * seats];
+        state[0] = turnCount;
+        state[1] = snakeHits;
+        state[2] = ladderHits;
+        state[3] = scheduler.getActiveCount() == 0 ? 0 : scheduler.current();
+        state[4] = finishedCount;
+        for (int seat = 0; seat < seats; seat++) {
+            state[5 + seat] = players.get(seat).getPosition();
+            state[5 + seats + seat] = ruleContext.getConsecutiveSixes(seat);
+            state[5 + 2 * seats + seat] = scheduler.getSkips(seat);
+            state[5 + 3 * seats + seat] = finishOrder[seat];
+        }
+        return state;
+    }
+
+    void restoreState(int[] state) {
+        int seats = players.size();
+        if (state.length != 5 + 4 * seats) {
+            throw new IllegalArgumentException("State is for " + (state.length - 5) / 4 + " seats, game has " + seats);
+        }
+        turnCount = state[0];
+        snakeHits = state[1];
+        ladderHits = state[2];
+        finishedCount = state[4];
+        scheduler.reset(state[3]);
+        for (int seat = 0; seat < seats; seat++) {
+            players.get(seat).setPosition(state[5 + seat]);
+            ruleContext.setConsecutiveSixes(seat, state[5 + seats + seat]);
+            scheduler.skip(seat, state[5 + 2 * seats + seat]);
+            finishOrder[seat] = state[5 + 3 * seats + seat];
+        }
+        // Players who reached the goal are off the board, and in a rank-all game several share the winning
+        // cell; whoever was ranked last without getting there stays put, as in playNextTurn
+        boolean[] finished = new boolean[seats];
+        for (int i = 0; i < finishedCount; i++) {
+            int seat = finishOrder[i];
+            if (players.get(seat).getPosition() == board.getWinningCell()) {
+                scheduler.remove(seat);
+                finished[seat] = true;
+            }
+        }
+        List<Player> onBoard = new ArrayList<>(seats - finishedCount);
+        for (int seat = 0; seat < seats; seat++) {
+            if (!finished[seat]) {
+                onBoard.add(players.get(seat));
+            }
+        }
+        occupancy.place(onBoard);
+    }
+
+    // Returns true when the game is over
+    private boolean playNextTurn() {
+        int seat = scheduler.current();
+        Player current = players.get(seat);
+        boolean extraTurn = takeTurn(current, seat);
+        if (ruleContext.getTurnsToSkip() > 0) {
+            scheduler.skip(seat, ruleContext.getTurnsToSkip());
+        }
+
+        if (current.getPosition() == board.getWinningCell()) {
+            finishOrder[finishedCount++] = seat;
+            if (events.isEnabled()) {
+                int cell = current.getPosition();
+                events.onEvent(event.set(GameEvent.Type.WIN, current, null, rolls, cell, cell, finishedCount));
+            }
+            scheduler.remove(seat);
+            occupancy.remove(current);
+            if (!rankAll) {
+                return true;
+            }
+            if (scheduler.getActiveCount() <= 1) {
+                // Whoever is left takes last place
+                if (scheduler.getActiveCount() == 1) {
+                    finishOrder[finishedCount++] = scheduler.current();
+                }
+                return true;
+            }
+            return false;
+        }
+        scheduler.endTurn(extraTurn);
+        return false;
+    }
+
+    private boolean takeTurn(Player player, int seat) {
+        if (!metrics.isEnabled()) {
+            return takeTurn(player, seat, null);
+        }
+        GameMetrics.Recorder recorder = metrics.recorder();
+        long start = System.nanoTime();
+        boolean extraTurn = takeTurn(player, seat, recorder);
+        recorder.record(GameMetrics.Timer.TURN, System.nanoTime() - start);
+        recorder.increment(GameMetrics.Counter.TURNS);
+        return extraTurn;
+    }
+
+    // recorder is null when metrics are disabled
+    private boolean takeTurn(Player player, int seat, GameMetrics.Recorder recorder) {
+        turnCount++;
+        int sum;
         
         if (player.isBot()) {
             // Bots always use random dice rolls
-            rolls = diceSet.rollAll();
+            sum = rollDice(recorder);
         } else {
             // Human players use the selected dice mode
             if (useManualDice) {
-                rolls = getUserDiceInput(player);
+                sum = getUserDiceInput(player);
             } else {
-                rolls = diceSet.rollAll();
+                sum = rollDice(recorder);
             }
         }
-        
-        int sum = rolls.stream().mapToInt(Integer::intValue).sum();
 
-        int initialPos = player.getPosition() + sum;
-        if (initialPos > board.getWinningCell()) {
-            System.out.println(player.getName() + " rolled " + rolls + " -> overshoot, staying at " + player.getPosition());
-            // Check for extra turn rule even when overshooting
-            return applyExtraTurnRule(player, rolls);
+        int move = moveMode == MoveMode.SUM ? sum : chooseMove(player, sum);
+        int initialPos = player.getPosition() + move;
+        if (move == 0 && moveChoice.getMoveCount() > 1) {
+            publish(GameEvent.Type.STAY, player, null, player.getPosition(), player.getPosition());
+            // Choosing to stay ends the turn and the six streak, even on a 6, so a player can't chain
+            // extra turns by staying without the three-sixes penalty ever catching up
+            ruleContext.beginRoll(player, seat, rolls, sum, true);
+            ruleContext.setConsecutiveSixes(seat, 0);
+            return false;
+        }
+        if (move == 0 || initialPos > board.getWinningCell()) {
+            publish(GameEvent.Type.OVERSHOOT, player, null, player.getPosition(), player.getPosition());
+            if (recorder != null) {
+                recorder.increment(GameMetrics.Counter.OVERSHOOTS);
+            }
+            // Rules still run so a 6 earns an extra turn even when overshooting
+            return applyRules(player, seat, sum, true, recorder);
         }
 
-        System.out.println(player.getName() + " rolled " + rolls + " -> landed on " + initialPos);
-        int finalPos = board.getNextPosition(initialPos);
-
-        positionMap.remove(player.getPosition());
-        player.setPosition(finalPos);
-        
-        // Check if there's already a player at the final position before adding the current player
-        if (positionMap.containsKey(finalPos)) {
-            Player existingPlayer = positionMap.get(finalPos);
-            // Remove the existing player and kick them back to start
-            positionMap.remove(finalPos);
-            existingPlayer.setPosition(1);
-            positionMap.put(1, existingPlayer);
-            System.out.println(existingPlayer.getName() + " was kicked back to start by " + player.getName() + "!");
+        publish(GameEvent.Type.ROLL, player, null, player.getPosition(), initialPos);
+        if (events.isEnabled()) {
+            publishJumps(player, initialPos);
+        }
+        int finalPos;
+        if (recorder == null) {
+            finalPos = compiledBoard.getNextPosition(initialPos);
+        } else {
+            long start = System.nanoTime();
+            finalPos = compiledBoard.getNextPosition(initialPos);
+            recorder.record(GameMetrics.Timer.BOARD_LOOKUP, System.nanoTime() - start);
+        }
+        if (finalPos < initialPos) {
+            snakeHits++;
+            if (recorder != null) {
+                recorder.increment(GameMetrics.Counter.SNAKES);
+            }
+        } else if (finalPos > initialPos) {
+            ladderHits++;
+            if (recorder != null) {
+                recorder.increment(GameMetrics.Counter.LADDERS);
+            }
         }
-        
-        // Now add the current player to their position
-        positionMap.put(finalPos, player);
 
-        if (finalPos != initialPos) {
-            System.out.println(player.getName() + " final position: " + finalPos);
+        // Anyone already standing on the final position is kicked back to start
+        Player existingPlayer = occupancy.moveTo(player, finalPos);
+        if (existingPlayer != null) {
+            publish(GameEvent.Type.KICK, player, existingPlayer, finalPos, finalPos);
+            if (recorder != null) {
+                recorder.increment(GameMetrics.Counter.KICKS);
+            }
         }
+        publish(GameEvent.Type.MOVE, player, null, initialPos, finalPos);
 
-        return applyRules(player, rolls);
+        return applyRules(player, seat, sum, false, recorder);
     }
 
-    private boolean applyRules(Player player, List<Integer> rolls) {
-        boolean extraTurn = false;
-        for (Rule rule : rules) {
-            if (rule.apply(player, rolls, board, positionMap)) {
-                extraTurn = true;
+    /**
+     * Lists the moves this roll allows (the full roll first, then smaller
+     * subsets of the dice, then staying put) and returns the chosen number
+     * of cells.
+     */
+    private int chooseMove(Player player, int sum) {
+        moveChoice.begin(player, rolls);
+        int room = board.getWinningCell() - player.getPosition();
+        if (sum <= room) {
+            moveChoice.addMove(sum);
+        }
+        Arrays.fill(subsetSumSeen, false);
+        int subsets = 1 << rolls.length;
+        for (int subset = 1; subset < subsets - 1; subset++) {
+            int subsetSum = 0;
+            for (int die = 0; die < rolls.length; die++) {
+                if ((subset & (1 << die)) != 0) {
+                    subsetSum += rolls[die];
+                }
             }
+            subsetSumSeen[subsetSum] = true;
         }
-        return extraTurn;
+        for (int cells = Math.min(room, subsetSumSeen.length - 1); cells >= 1; cells--) {
+            if (subsetSumSeen[cells] && cells != sum) {
+                moveChoice.addMove(cells);
+            }
+        }
+        moveChoice.addMove(0);
+
+        int choice = 0;
+        if (moveChoice.getMoveCount() > 1) {
+            if (moveScript != null || player.isBot()) {
+                BotStrategy strategy = moveScript != null ? moveScript : ((BotPlayer) player).getStrategy();
+                choice = strategy.chooseMove(moveChoice);
+                if (choice < 0 || choice >= moveChoice.getMoveCount()) {
+                    throw new IllegalStateException("Strategy for " + player.getName() + " chose move " + choice
+                            + " of " + moveChoice.getMoveCount());
+                }
+            } else if (interactive) {
+                choice = getUserMoveChoice(player);
+            }
+        }
+        return moveChoice.getMove(choice);
     }
 
-    private boolean applyExtraTurnRule(Player player, List<Integer> rolls) {
-        // Only apply extra turn rule when overshooting
-        for (Rule rule : rules) {
-            if (rule instanceof ExtraTurnRule && rule.apply(player, rolls, board, positionMap)) {
-                return true;
+    private int getUserMoveChoice(Player player) {
+        io.println(player.getName() + " rolled " + Arrays.toString(rolls) + ". Choose a move:");
+        for (int i = 0; i < moveChoice.getMoveCount(); i++) {
+            int cells = moveChoice.getMove(i);
+            io.println("  " + (i + 1) + ". " + (cells == 0
+                    ? "Stay at " + player.getPosition()
+                    : "Move " + cells + " -> " + moveChoice.getTarget(i)));
+        }
+        while (true) {
+            try {
+                io.print("Enter your choice (1-" + moveChoice.getMoveCount() + "): ");
+                int choice = Integer.parseInt(io.readLine().trim());
+                if (choice >= 1 && choice <= moveChoice.getMoveCount()) {
+                    return choice - 1;
+                }
+                io.println("Invalid choice! Please enter a number between 1 and " + moveChoice.getMoveCount() + ".");
+            } catch (NumberFormatException e) {
+                io.println("Invalid input! Please enter a number between 1 and " + moveChoice.getMoveCount() + ".");
             }
         }
-        return false;
+    }
+
+    private int rollDice(GameMetrics.Recorder recorder) {
+        if (recorder == null) {
+            return diceSet.rollInto(rolls);
+        }
+        long start = System.nanoTime();
+        int sum = diceSet.rollInto(rolls);
+        recorder.record(GameMetrics.Timer.DICE_ROLL, System.nanoTime() - start);
+        return sum;
+    }
+
+    private boolean applyRules(Player player, int seat, int sum, boolean overshoot, GameMetrics.Recorder recorder) {
+        ruleContext.beginRoll(player, seat, rolls, sum, overshoot);
+        if (recorder == null) {
+            return TurnResolver.hasExtraTurn(turnResolver.resolve(ruleContext));
+        }
+
+        // Timing each rule means running the plain chain instead of the compiled resolver
+        long start = System.nanoTime();
+        for (int i = 0; i < rules.size(); i++) {
+            long ruleStart = System.nanoTime();
+            rules.get(i).apply(ruleContext);
+            recorder.recordRule(ruleSlots[i], System.nanoTime() - ruleStart);
+        }
+        int outcome = ruleContext.getOutcome();
+        recorder.record(GameMetrics.Timer.RULES, System.nanoTime() - start);
+        if (TurnResolver.hasExtraTurn(outcome)) {
+            recorder.increment(GameMetrics.Counter.EXTRA_TURNS);
+        }
+        if (TurnResolver.isExtraTurnDenied(outcome)) {
+            recorder.increment(GameMetrics.Counter.THREE_SIX_PENALTIES);
+        }
+        return TurnResolver.hasExtraTurn(outcome);
+    }
+
+    private void publish(GameEvent.Type type, Player player, Player otherPlayer, int from, int to) {
+        if (events.isEnabled()) {
+            events.onEvent(event.set(type, player, otherPlayer, rolls, from, to, 0));
+        }
+    }
+
+    // One SNAKE or LADDER event for each hop of a chain starting at the given cell
+    private void publishJumps(Player player, int cell) {
+        while (compiledBoard.hasEntityAt(cell)) {
+            int end = compiledBoard.getEntityEnd(cell);
+            publish(end < cell ? GameEvent.Type.SNAKE : GameEvent.Type.LADDER, player, null, cell, end);
+            cell = end;
+        }
     }
 
     private void printBoardStatus() {
-        System.out.println("Board Status:");
+        io.println("Board Status:");
         for (Player p : players) {
-            System.out.println(p.getName() + " is at " + p.getPosition());
+            io.println(p.getName() + " is at " + p.getPosition());
         }
     }
 
     private void waitForUserInput(String playerName) {
-        System.out.print("Press Enter for " + playerName + " to roll the dice...");
-        scanner.nextLine();
+        io.print("Press Enter for " + playerName + " to roll the dice...");
+        io.readLine();
     }
 
-    private List<Integer> getUserDiceInput(Player player) {
-        List<Integer> userRolls = new ArrayList<>();
+    // Fills the roll buffer from the keyboard and returns the sum
+    private int getUserDiceInput(Player player) {
+        int sum = 0;
         
-        // Get the number of dice from diceSet
+        // Get the number of dice and faces from diceSet
         int diceCount = diceSet.getDiceCount();
+        int faces = diceSet.getFaces();
         
         for (int i = 0; i < diceCount; i++) {
             int diceValue = 0;
@@ -155,56 +600,57 @@ public class GameEngine {
             while (!validInput) {
                 try {
                     if (diceCount == 1) {
-                        System.out.print(player.getName() + ", enter your dice number (1-6): ");
+                        io.print(player.getName() + ", enter your dice number (1-" + faces + "): ");
                     } else {
-                        System.out.print(player.getName() + ", enter dice " + (i + 1) + " number (1-6): ");
+                        io.print(player.getName() + ", enter dice " + (i + 1) + " number (1-" + faces + "): ");
                     }
                     
-                    diceValue = Integer.parseInt(scanner.nextLine().trim());
+                    diceValue = Integer.parseInt(io.readLine().trim());
                     
-                    if (diceValue >= 1 && diceValue <= 6) {
+                    if (diceValue >= 1 && diceValue <= faces) {
                         validInput = true;
                     } else {
-                        System.out.println("Invalid input! Please enter a number between 1 and 6.");
+                        io.println("Invalid input! Please enter a number between 1 and " + faces + ".");
                     }
                 } catch (NumberFormatException e) {
-                    System.out.println("Invalid input! Please enter a valid number between 1 and 6.");
+                    io.println("Invalid input! Please enter a valid number between 1 and " + faces + ".");
                 }
             }
             
-            userRolls.add(diceValue);
+            rolls[i] = diceValue;
+            sum += diceValue;
         }
         
-        return userRolls;
+        return sum;
     }
 
     private void setupDiceMode() {
-        System.out.println("\n=== GAME SETUP ===");
-        System.out.println("Choose dice rolling mode for human players:");
-        System.out.println("1. Random dice rolls (traditional)");
-        System.out.println("2. Manual input (choose your dice numbers 1-6)");
+        io.println("\n=== GAME SETUP ===");
+        io.println("Choose dice rolling mode for human players:");
+        io.println("1. Random dice rolls (traditional)");
+        io.println("2. Manual input (choose your dice numbers 1-" + diceSet.getFaces() + ")");
         
         boolean validChoice = false;
         while (!validChoice) {
             try {
-                System.out.print("Enter your choice (1 or 2): ");
-                int choice = Integer.parseInt(scanner.nextLine().trim());
+                io.print("Enter your choice (1 or 2): ");
+                int choice = Integer.parseInt(io.readLine().trim());
                 
                 if (choice == 1) {
                     useManualDice = false;
-                    System.out.println("✓ Random dice rolls selected for human players");
+                    io.println("✓ Random dice rolls selected for human players");
                     validChoice = true;
                 } else if (choice == 2) {
                     useManualDice = true;
-                    System.out.println("✓ Manual dice input selected for human players");
+                    io.println("✓ Manual dice input selected for human players");
                     validChoice = true;
                 } else {
-                    System.out.println("Invalid choice! Please enter 1 or 2.");
+                    io.println("Invalid choice! Please enter 1 or 2.");
                 }
             } catch (NumberFormatException e) {
-                System.out.println("Invalid input! Please enter 1 or 2.");
+                io.println("Invalid input! Please enter 1 or 2.");
             }
         }
-        System.out.println("==================\n");
+        io.println("==================\n");
     }
 }
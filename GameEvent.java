@@ -0,0 +1,73 @@
+package snakeladder;
+
+/**
+ * One thing that happened during a game, passed to a GameEventSink.
+ *
+ * Engines reuse a single instance for every event to keep the turn path
+ * allocation-free, so an event and its rolls array are only valid during the
+ * onEvent call. Sinks that keep events around must copy the fields they need.
+ */
+public final class GameEvent {
+    public enum Type {
+        ROLL,              // player rolled and landed on `to`
+        OVERSHOOT,         // player rolled past the winning cell and stays on `from`
+        STAY,              // player chose not to move and stays on `from`
+        SNAKE,             // snake from `from` down to `to`
+        LADDER,            // ladder from `from` up to `to`
+        KICK,              // player landed on `to` and sent otherPlayer back to start
+        MOVE,              // player's move settled: landed on `from`, ended on `to`
+        SIX_STREAK,        // player has rolled `count` consecutive 6s
+        THREE_SIXES,       // third 6 in a row sent player back to start
+        EXTRA_TURN,        // player gets another turn
+        EXTRA_TURN_DENIED, // player rolled a 6 but the three-sixes penalty cancels the extra turn
+        WIN                // player reached the winning cell, finishing in place `count`
+    }
+
+    private Type type;
+    private Player player;
+    private Player otherPlayer;
+    private int[] rolls;
+    private int from;
+    private int to;
+    private int count;
+
+    public GameEvent set(Type type, Player player, Player otherPlayer, int[] rolls, int from, int to, int count) {
+        this.type = type;
+        this.player = player;
+        this.otherPlayer = otherPlayer;
+        this.rolls = rolls;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+        return this;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Player getOtherPlayer() {
+        return otherPlayer;
+    }
+
+    // The dice faces of the current roll; may be null for events that don't carry them
+    public int[] getRolls() {
+        return rolls;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
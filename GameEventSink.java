@@ -0,0 +1,43 @@
+package snakeladder;
+
+/**
+ * Receives the structured events of a game. Engines check isEnabled() before
+ * filling in an event, so a disabled sink costs a single branch per event.
+ */
+public interface GameEventSink {
+    GameEventSink NONE = new GameEventSink() {
+        @Override
+        public void onEvent(GameEvent event) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    void onEvent(GameEvent event);
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    // Sends every event to both sinks
+    static GameEventSink tee(GameEventSink first, GameEventSink second) {
+        if (!first.isEnabled()) {
+            return second;
+        }
+        if (!second.isEnabled()) {
+            return first;
+        }
+        return event -> {
+            first.onEvent(event);
+            second.onEvent(event);
+        };
+    }
+
+    // Renders events as today's console messages, or NONE when the log is silent
+    static GameEventSink text(GameLog log) {
+        return log.isEnabled() ? new TextEventRenderer(log) : NONE;
+    }
+}
@@ -0,0 +1,71 @@
+package snakeladder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plays many independent continuations of one game from a GameSnapshot and
+ * adds up how they end.
+ *
+ * Each worker forks the source engine once and then restores the snapshot
+ * before every continuation, so a continuation costs no allocation beyond
+ * the game itself. As in ParallelSimulator, continuations are cut into
+ * chunks seeded from the master seed in chunk order and merged in that
+ * order as they finish, so the totals for a seed don't depend on the
+ * thread count and only a few chunk results are held at once.
+ */
+public class GameFork {
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final GameEngine source;
+    private final GameSnapshot snapshot;
+    private final int seats;
+
+    public GameFork(GameEngine source, GameSnapshot snapshot) {
+        this.source = source;
+        this.snapshot = snapshot;
+        this.seats = snapshot.getSeatCount();
+    }
+
+    /**
+     * Plays continuations up to maxTurns more turns each. Turn counts in the
+     * result include the turns before the snapshot, and a continuation that
+     * starts from a finished game records that game's winner.
+     */
+    public SimulationResult run(int continuations, int maxTurns, long masterSeed, int threads) {
+        if (continuations < 0 || maxTurns < 1 || threads < 1) {
+            throw new IllegalArgumentException("Need a non-negative continuation count and positive turns and threads");
+        }
+        int turnLimit = snapshot.getTurnCount() + maxTurns;
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            int chunks = (continuations + DEFAULT_CHUNK_SIZE - 1) / DEFAULT_CHUNK_SIZE;
+            return ParallelSimulator.runInOrder(pool, threads, chunks, chunk -> {
+                int chunkSize = (int) Math.min(DEFAULT_CHUNK_SIZE, continuations - chunk * DEFAULT_CHUNK_SIZE);
+                long chunkSeed = master.nextLong();
+                return () -> runChunk(chunkSize, turnLimit, chunkSeed);
+            }, new SimulationResult(seats, turnLimit));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Continuations interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Continuation worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private SimulationResult runChunk(int continuations, int turnLimit, long seed) {
+        SimulationResult result = new SimulationResult(seats, turnLimit);
+        GameEngine engine = source.fork(snapshot, RandomAlgorithm.SPLITTABLE.create(seed));
+        for (int i = 0; i < continuations; i++) {
+            engine.restore(snapshot);
+            engine.playHeadless(turnLimit);
+            result.recordGame(engine.getWinnerSeat(), engine.getTurnCount(), engine.getSnakeHits(), engine.getLadderHits());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package snakeladder;
+
+/**
+ * Where an interactive game reads player input and writes prompts and
+ * messages. GameEngine.play() uses stdin/stdout; sessions hosted by
+ * GameServer each get their own.
+ */
+public interface GameIO {
+    // Blocks until the player sends a line; throws NoSuchElementException once input is closed
+    String readLine();
+
+    void print(String text);
+
+    default void println(String text) {
+        print(text + System.lineSeparator());
+    }
+
+    default void close() {
+    }
+}
@@ -0,0 +1,23 @@
+package snakeladder;
+
+public interface GameLog {
+    GameLog CONSOLE = System.out::println;
+
+    GameLog SILENT = new GameLog() {
+        @Override
+        public void println(String message) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    void println(String message);
+
+    // Lets callers skip building messages nobody will read
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+package snakeladder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Counters and latency histograms for the game hot path. Engines given a
+ * GameMetrics time each turn, dice roll, board lookup and rule, and count
+ * what happened.
+ *
+ * Threads record into a fixed set of striped Recorders, picked by thread id,
+ * so memory stays bounded however many threads (or per-session threads in
+ * GameServer) play. A stripe may be shared, so recording uses atomic adds
+ * but never takes a lock. snapshot() adds all the stripes up. Engines skip
+ * instrumentation entirely when given DISABLED.
+ */
+public final class GameMetrics {
+    public enum Counter {
+        TURNS, SNAKES, LADDERS, KICKS, OVERSHOOTS, EXTRA_TURNS, THREE_SIX_PENALTIES
+    }
+
+    public enum Timer {
+        TURN, DICE_ROLL, BOARD_LOOKUP, RULES
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+    private static final Timer[] TIMERS = Timer.values();
+
+    public static final GameMetrics DISABLED = new GameMetrics(false);
+
+    // Twice the processors, rounded up to a power of two, keeps collisions rare
+    private static final int STRIPES =
+            Integer.highestOneBit(Math.max(1, 2 * Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<Recorder> stripes = new AtomicReferenceArray<>(STRIPES); // created on first use
+    private final Map<String, Integer> ruleSlots = new ConcurrentHashMap<>();
+    private final List<String> ruleNames = new CopyOnWriteArrayList<>();
+
+    public GameMetrics() {
+        this(true);
+    }
+
+    private GameMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // The calling thread's stripe; other threads may share it
+    public Recorder recorder() {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        Recorder recorder = stripes.get(stripe);
+        if (recorder == null) {
+            stripes.compareAndSet(stripe, null, new Recorder());
+            recorder = stripes.get(stripe);
+        }
+        return recorder;
+    }
+
+    // A stable index for a named rule's histogram
+    public int ruleSlot(String name) {
+        return ruleSlots.computeIfAbsent(name, key -> {
+            synchronized (ruleNames) {
+                ruleNames.add(key);
+                return ruleNames.size() - 1;
+            }
+        });
+    }
+
+    // Totals across all threads so far
+    public MetricsSnapshot snapshot() {
+        Recorder total = new Recorder();
+        for (int i = 0; i < STRIPES; i++) {
+            Recorder recorder = stripes.get(i);
+            if (recorder != null) {
+                total.add(recorder);
+            }
+        }
+        long[] counters = new long[COUNTERS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = total.counters.get(i);
+        }
+        List<String> names = new ArrayList<>(ruleNames);
+        LatencyHistogram[] rules = Arrays.copyOf(total.rules, names.size());
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i] == null) {
+                rules[i] = new LatencyHistogram();
+            }
+        }
+        return new MetricsSnapshot(counters, total.timers, names, rules);
+    }
+
+    /**
+     * One stripe's counters and histograms. Any number of threads may record
+     * into it; snapshot() reads them from any thread.
+     */
+    public static final class Recorder {
+        private final AtomicLongArray counters = new AtomicLongArray(COUNTERS.length);
+        private final LatencyHistogram[] timers = new LatencyHistogram[TIMERS.length];
+        private volatile LatencyHistogram[] rules = new LatencyHistogram[0]; // replaced, never written in place
+
+        private Recorder() {
+            for (int i = 0; i < timers.length; i++) {
+                timers[i] = new LatencyHistogram();
+            }
+        }
+
+        public void increment(Counter counter) {
+            counters.getAndIncrement(counter.ordinal());
+        }
+
+        public void record(Timer timer, long nanos) {
+            timers[timer.ordinal()].record(nanos);
+        }
+
+        public void recordRule(int slot, long nanos) {
+            LatencyHistogram[] current = rules;
+            if (slot >= current.length || current[slot] == null) {
+                current = addRule(slot);
+            }
+            current[slot].record(nanos);
+        }
+
+        // Copy-on-write, so a recording thread never sees a half-built array
+        private synchronized LatencyHistogram[] addRule(int slot) {
+            LatencyHistogram[] current = rules;
+            if (slot < current.length && current[slot] != null) {
+                return current;
+            }
+            LatencyHistogram[] grown = Arrays.copyOf(current, Math.max(current.length, slot + 1));
+            grown[slot] = new LatencyHistogram();
+            rules = grown;
+            return grown;
+        }
+
+        private void add(Recorder other) {
+            for (int i = 0; i < COUNTERS.length; i++) {
+                counters.getAndAdd(i, other.counters.get(i));
+            }
+            for (int i = 0; i < TIMERS.length; i++) {
+                timers[i].add(other.timers[i]);
+            }
+            LatencyHistogram[] otherRules = other.rules;
+            for (int i = 0; i < otherRules.length; i++) {
+                if (otherRules[i] != null) {
+                    addRule(i)[i].add(otherRules[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package snakeladder;
+
+/**
+ * JMX view of a GameMetrics, registered by MetricsReporter.registerMBean.
+ * Each attribute read takes a fresh snapshot.
+ */
+public interface GameMetricsMXBean {
+    long getTurns();
+
+    long getSnakes();
+
+    long getLadders();
+
+    long getKicks();
+
+    long getOvershoots();
+
+    long getExtraTurns();
+
+    long getThreeSixPenalties();
+
+    double getTurnMeanNanos();
+
+    long getTurnP50Nanos();
+
+    long getTurnP99Nanos();
+
+    long getTurnMaxNanos();
+
+    // The full text report, as written by MetricsReporter
+    String getReport();
+}
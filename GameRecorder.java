@@ -0,0 +1,131 @@
+package snakeladder;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records a game as it is played, in the compact replay format read by
+ * GameRecording. Plug it into a GameEngine as its GameEventSink (or tee it
+ * with another sink) and every roll is appended as it happens, so a game of
+ * any length streams to disk without being held in memory.
+ *
+ * <pre>
+ * header   magic int "SLGR", version varint
+ * rules    move mode varint (MoveMode ordinal), rank-all byte (1 or 0)
+ * board    size varint, entityCount varint,
+ *          entityCount x (start - previous start varint, zigzag(end - start) varint)
+ * dice     count varint, faces varint
+ * players  count varint, count x (bot byte, name length varint, UTF-8 name)
+ * turns    one per turn until end of file: count x (face - 1 varint),
+ *          then in CHOOSE_DICE mode the cells moved varint (0 = stayed put)
+ * </pre>
+ *
+ * The magic is big-endian. Entities are written in start order, so starts
+ * are delta-encoded and snakes are told apart from ladders by the sign of
+ * end - start. With up to 128 faces a turn costs one byte per die, plus one
+ * for the move when players choose it.
+ */
+public class GameRecorder implements GameEventSink, Closeable {
+    public static final int MAGIC = 0x534C4752; // "SLGR"
+    public static final int VERSION = 2;
+
+    private final OutputStream out;
+    private final boolean recordMoves;
+    private long turns;
+
+    public GameRecorder(Path path, Board board, DiceSet diceSet, List<Player> players) throws IOException {
+        this(path, board, diceSet, players, MoveMode.SUM, false);
+    }
+
+    /**
+     * Starts a recording of a game played with the given GameEngine move mode
+     * and rank-all setting, which decide how its rolls are replayed.
+     */
+    public GameRecorder(Path path, Board board, DiceSet diceSet, List<Player> players,
+                        MoveMode moveMode, boolean rankAll) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(path));
+        this.recordMoves = moveMode != MoveMode.SUM;
+        writeInt(MAGIC);
+        writeVarint(VERSION);
+
+        writeVarint(moveMode.ordinal());
+        out.write(rankAll ? 1 : 0);
+
+        List<Entity> entities = board.getEntities();
+        writeVarint(board.getSize());
+        writeVarint(entities.size());
+        int previousStart = 0;
+        for (Entity entity : entities) {
+            writeVarint(entity.getStart() - previousStart);
+            int jump = entity.getEnd() - entity.getStart();
+            writeVarint((jump << 1) ^ (jump >> 31));
+            previousStart = entity.getStart();
+        }
+
+        writeVarint(diceSet.getDiceCount());
+        writeVarint(diceSet.getFaces());
+
+        writeVarint(players.size());
+        for (Player player : players) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            out.write(player.isBot() ? 1 : 0);
+            writeVarint(name.length);
+            out.write(name);
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        GameEvent.Type type = event.getType();
+        if (type != GameEvent.Type.ROLL && type != GameEvent.Type.OVERSHOOT && type != GameEvent.Type.STAY) {
+            return;
+        }
+        try {
+            for (int face : event.getRolls()) {
+                writeVarint(face - 1);
+            }
+            if (recordMoves) {
+                // A ROLL event goes from the start cell to the cell moved to; the others stay put
+                writeVarint(type == GameEvent.Type.ROLL ? event.getTo() - event.getFrom() : 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        turns++;
+    }
+
+    public long getTurnCount() {
+        return turns;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
@@ -0,0 +1,195 @@
+package snakeladder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game recorded by GameRecorder, loaded back into memory: the rules, board,
+ * dice, players and every roll and chosen move in order. Feed it to
+ * GameReplay to reconstruct the game at any turn.
+ */
+public class GameRecording {
+    private final MoveMode moveMode;
+    private final boolean rankAll;
+    private final Board board;
+    private final int diceCount;
+    private final int faces;
+    private final List<String> playerNames;
+    private final boolean[] bots;
+    private final int[] rolls; // diceCount faces per turn
+    private final int[] moves; // cells moved per turn; null in SUM mode
+
+    private GameRecording(MoveMode moveMode, boolean rankAll, Board board, int diceCount, int faces,
+                          List<String> playerNames, boolean[] bots, int[] rolls, int[] moves) {
+        this.moveMode = moveMode;
+        this.rankAll = rankAll;
+        this.board = board;
+        this.diceCount = diceCount;
+        this.faces = faces;
+        this.playerNames = playerNames;
+        this.bots = bots;
+        this.rolls = rolls;
+        this.moves = moves;
+    }
+
+    public static GameRecording read(Path path) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+        try {
+            if (in.getInt() != GameRecorder.MAGIC) {
+                throw new IOException("Not a game recording: " + path);
+            }
+            int version = readVarint(in);
+            if (version != GameRecorder.VERSION) {
+                throw new IOException("Unsupported recording version " + version);
+            }
+
+            int modeCode = readVarint(in);
+            if (modeCode >= MoveMode.values().length) {
+                throw new IOException("Unknown move mode " + modeCode);
+            }
+            MoveMode moveMode = MoveMode.values()[modeCode];
+            boolean rankAll = in.get() != 0;
+
+            Board board = new Board(readVarint(in));
+            int entityCount = readVarint(in);
+            int start = 0;
+            for (int i = 0; i < entityCount; i++) {
+                start += readVarint(in);
+                int zigzag = readVarint(in);
+                int end = start + ((zigzag >>> 1) ^ -(zigzag & 1));
+                if (end < start) {
+                    board.addSnake(new Snake(start, end));
+                } else {
+                    board.addLadder(new Ladder(start, end));
+                }
+            }
+
+            int diceCount = readVarint(in);
+            int faces = readVarint(in);
+            if (diceCount == 0) {
+                throw new IOException("Recording has no dice");
+            }
+
+            int playerCount = readVarint(in);
+            List<String> names = new ArrayList<>(playerCount);
+            boolean[] bots = new boolean[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                bots[i] = in.get() != 0;
+                byte[] name = new byte[readVarint(in)];
+                in.get(name);
+                names.add(new String(name, StandardCharsets.UTF_8));
+            }
+
+            // Each turn is at least one byte per die and one for any move, which bounds the counts
+            boolean recordsMoves = moveMode != MoveMode.SUM;
+            int[] rolls = new int[in.remaining()];
+            int[] moves = recordsMoves ? new int[in.remaining() / (diceCount + 1)] : null;
+            int count = 0;
+            int turns = 0;
+            while (in.hasRemaining()) {
+                for (int die = 0; die < diceCount; die++) {
+                    if (!in.hasRemaining()) {
+                        throw new EOFException("Recording ends in the middle of a turn");
+                    }
+                    int face = readVarint(in) + 1;
+                    if (face > faces) {
+                        throw new IOException("Recorded face " + face + " exceeds " + faces + "-sided dice");
+                    }
+                    rolls[count++] = face;
+                }
+                if (recordsMoves) {
+                    if (!in.hasRemaining()) {
+                        throw new EOFException("Recording ends in the middle of a turn");
+                    }
+                    moves[turns] = readVarint(in);
+                }
+                turns++;
+            }
+            return new GameRecording(moveMode, rankAll, board, diceCount, faces,
+                    Collections.unmodifiableList(names), bots, Arrays.copyOf(rolls, count),
+                    recordsMoves ? Arrays.copyOf(moves, turns) : null);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Truncated game recording: " + path);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid board in game recording: " + e.getMessage(), e);
+        }
+    }
+
+    public MoveMode getMoveMode() {
+        return moveMode;
+    }
+
+    // Whether the game went on until every seat was ranked
+    public boolean isRankAll() {
+        return rankAll;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getDiceCount() {
+        return diceCount;
+    }
+
+    public int getFaces() {
+        return faces;
+    }
+
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    public int getTurnCount() {
+        return rolls.length / diceCount;
+    }
+
+    public int getRoll(int turn, int die) {
+        return rolls[turn * diceCount + die];
+    }
+
+    // Cells the player chose to move on the given turn, 0 for staying put; recorded outside SUM mode only
+    public int getMove(int turn) {
+        if (moves == null) {
+            throw new IllegalStateException("Moves are not recorded in " + moveMode + " mode");
+        }
+        return moves[turn];
+    }
+
+    // Every recorded face, diceCount per turn
+    public int[] getRolls() {
+        return rolls.clone();
+    }
+
+    // Fresh players at the start cell, in seat order
+    public List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>(playerNames.size());
+        for (int i = 0; i < playerNames.size(); i++) {
+            players.add(bots[i]
+                    ? PlayerFactory.createBot(playerNames.get(i), new RandomBotStrategy())
+                    : PlayerFactory.createHuman(playerNames.get(i)));
+        }
+        return players;
+    }
+
+    private static int readVarint(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
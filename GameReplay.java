@@ -0,0 +1,181 @@
+package snakeladder;
+
+import java.util.List;
+
+/**
+ * Re-runs a GameRecording through the normal GameEngine turn and rule path,
+ * with the recorded move mode and rank-all setting. Outside SUM mode every
+ * seat makes the move it chose in the recording.
+ *
+ * The whole game is replayed once up front, saving the engine state every
+ * snapshotInterval turns. seek(turn) then restores the nearest earlier
+ * snapshot and replays at most snapshotInterval - 1 turns from there, so any
+ * turn of a long game can be reached without starting over from turn 0.
+ */
+public class GameReplay {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 256;
+
+    private final GameRecording recording;
+    private final List<Player> players;
+    private final ReplayRandom random;
+    private final GameEngine engine;
+    private final SwitchableSink events;
+    private final int snapshotInterval;
+    private final GameSnapshot[] snapshots; // snapshots[i] is the state after i * snapshotInterval turns
+    private final int turnCount;
+    private int turn;
+
+    public GameReplay(GameRecording recording) {
+        this(recording, DEFAULT_SNAPSHOT_INTERVAL, GameEventSink.NONE);
+    }
+
+    /**
+     * @param events receives the events of turns played with step(); seeking
+     *               does not publish anything
+     */
+    public GameReplay(GameRecording recording, int snapshotInterval, GameEventSink events) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.recording = recording;
+        this.players = recording.createPlayers();
+        this.random = ReplayRandom.ofFaces(recording.getRolls());
+        this.events = new SwitchableSink(events);
+        this.engine = new GameEngine(recording.getBoard(),
+                new DiceSet(recording.getDiceCount(), recording.getFaces(), random), players, this.events);
+        engine.setMoveMode(recording.getMoveMode());
+        engine.setRankAll(recording.isRankAll());
+        if (recording.getMoveMode() != MoveMode.SUM) {
+            engine.setMoveScript(this::recordedMove);
+        }
+        this.snapshotInterval = snapshotInterval;
+        this.turnCount = recording.getTurnCount();
+        this.snapshots = new GameSnapshot[turnCount / snapshotInterval + 1];
+
+        this.events.enabled = false;
+        snapshots[0] = engine.snapshot();
+        for (int t = 1; t <= turnCount; t++) {
+            if (engine.playTurn() && t < turnCount) {
+                throw new IllegalStateException("Recording continues for " + (turnCount - t) + " turns after the game was won");
+            }
+            if (t % snapshotInterval == 0) {
+                snapshots[t / snapshotInterval] = engine.snapshot();
+            }
+        }
+        turn = turnCount;
+        seek(0);
+    }
+
+    public GameRecording getRecording() {
+        return recording;
+    }
+
+    // Players in seat order, positioned as of the current turn
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // Number of turns played so far in the replay
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getSnakeHits() {
+        return engine.getSnakeHits();
+    }
+
+    public int getLadderHits() {
+        return engine.getLadderHits();
+    }
+
+    // The first player to finish, or null if nobody has by the current turn
+    public Player getWinner() {
+        return engine.getWinner();
+    }
+
+    // Players in finishing order as of the current turn
+    public List<Player> getRanking() {
+        return engine.getRanking();
+    }
+
+    // Game state after the current turn, e.g. to fork continuations from it
+    public GameSnapshot snapshot() {
+        return engine.snapshot();
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    // Moves the replay to the state after the given number of turns
+    public void seek(int target) {
+        if (target < 0 || target > turnCount) {
+            throw new IndexOutOfBoundsException("Turn " + target + " out of range 0.." + turnCount);
+        }
+        int base = target / snapshotInterval * snapshotInterval;
+        if (turn < base || turn > target) {
+            engine.restore(snapshots[base / snapshotInterval]);
+            random.seek(base * recording.getDiceCount());
+            turn = base;
+        }
+        events.enabled = false;
+        try {
+            while (turn < target) {
+                engine.playTurn();
+                turn++;
+            }
+        } finally {
+            events.enabled = true;
+        }
+    }
+
+    /**
+     * Replays the next recorded turn, publishing its events.
+     *
+     * @return true when that turn won the game
+     */
+    public boolean step() {
+        if (turn == turnCount) {
+            throw new IllegalStateException("No recorded turns left after turn " + turn);
+        }
+        turn++;
+        return engine.playTurn();
+    }
+
+    // The engine counts the turn before asking, so the turn being played is getTurnCount() - 1
+    private int recordedMove(MoveChoice choice) {
+        int turn = engine.getTurnCount() - 1;
+        int cells = recording.getMove(turn);
+        for (int move = 0; move < choice.getMoveCount(); move++) {
+            if (choice.getMove(move) == cells) {
+                return move;
+            }
+        }
+        throw new IllegalStateException("Recorded move of " + cells + " cells on turn " + (turn + 1)
+                + " is not allowed by that roll");
+    }
+
+    // Lets seek fast-forward without publishing the turns it skips over
+    private static final class SwitchableSink implements GameEventSink {
+        private final GameEventSink target;
+        private boolean enabled = true;
+
+        SwitchableSink(GameEventSink target) {
+            this.target = target;
+        }
+
+        @Override
+        public void onEvent(GameEvent event) {
+            target.onEvent(event);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled && target.isEnabled();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package snakeladder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hosts many interactive games in one process. Each session runs its own
+ * GameEngine on its own thread and talks to its player through a GameIO,
+ * either in-process (openLocalSession) or over a loopback socket (listen).
+ *
+ * Sessions run on virtual threads when the runtime has them (Java 21+), so
+ * thousands of games blocked on player input share a handful of carrier
+ * threads. The project targets Java 17, where Thread.ofVirtual doesn't
+ * exist: there every session, idle or not, holds its own daemon platform
+ * thread, created with a small stack so ten thousand of them stay within a
+ * few GB of reserved address space. Only a 21+ runtime gets the few-threads
+ * behaviour; usesVirtualThreads() tells which one is in effect.
+ */
+public class GameServer implements Closeable {
+    static final int MAX_ACCEPT_FAILURES = 20;
+    private static final long ACCEPT_BACKOFF_MILLIS = 10;
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+    // Stack size requested for platform session threads; a game session never recurses deeply
+    private static final long PLATFORM_STACK_BYTES = 256 * 1024;
+
+    private final GameConfig config;
+    private final int humanPlayers;
+    private final int botPlayers;
+    private final ThreadFactory sessionThreads;
+    private final boolean virtualThreads;
+    private final Map<Integer, GameSession> sessions;
+    private final AtomicInteger nextSessionId;
+    private volatile ServerSocket serverSocket;
+    private volatile GameLog log = GameLog.CONSOLE;
+
+    public GameServer(GameConfig config, int humanPlayers, int botPlayers) {
+        if (humanPlayers + botPlayers < 2) {
+            throw new IllegalArgumentException("A session needs at least 2 players");
+        }
+        this.config = config;
+        this.humanPlayers = humanPlayers;
+        this.botPlayers = botPlayers;
+        ThreadFactory virtual = virtualThreadFactory();
+        this.virtualThreads = virtual != null;
+        this.sessionThreads = virtual != null ? virtual : GameServer::platformThread;
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextSessionId = new AtomicInteger();
+    }
+
+    // Looked up reflectively so the Java 17 build still runs; null when the runtime has no virtual threads
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Thread platformThread(Runnable runnable) {
+        Thread thread = new Thread(null, runnable, "game-session", PLATFORM_STACK_BYTES);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    // True when sessions share carrier threads, false when each one has a platform thread (Java 17-20)
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Starts a new game on its own thread, with every prompt and message
+     * going through the given GameIO.
+     */
+    public GameSession startSession(GameIO io) {
+        Board board = new Board(config.getBoardSize());
+        board.generateRandomEntities();
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= humanPlayers; i++) {
+            players.add(PlayerFactory.createHuman("Human" + i));
+        }
+        for (int i = 1; i <= botPlayers; i++) {
+            players.add(PlayerFactory.createBot("Bot" + i, new RandomBotStrategy()));
+        }
+
+        DiceSet diceSet = new DiceSet(config.getDiceCount(), 6, RandomAlgorithm.SPLITTABLE.create());
+        GameEngine engine = new GameEngine(board, diceSet, players, new TextEventRenderer(io::println));
+
+        int id = nextSessionId.incrementAndGet();
+        GameSession session = new GameSession(id, engine, io, () -> sessions.remove(id));
+        sessions.put(id, session);
+        sessionThreads.newThread(session).start();
+        return session;
+    }
+
+    /**
+     * Starts an in-process session. Send player input through the returned
+     * channel; everything the game prints goes to output.
+     */
+    public ChannelIO openLocalSession(Consumer<String> output) {
+        ChannelIO io = new ChannelIO(output);
+        startSession(io);
+        return io;
+    }
+
+    // Where accept failures are reported
+    public void setLog(GameLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Accepts connections on the loopback interface, one game per
+     * connection, until close() is called or accepting keeps failing.
+     */
+    public void listen(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        sessionThreads.newThread(this::acceptLoop).start();
+    }
+
+    /**
+     * Runs until the server socket is closed. Failed accepts (for example
+     * when the process is out of file descriptors) are retried with a
+     * doubling pause; after MAX_ACCEPT_FAILURES in a row the server stops
+     * listening instead of spinning.
+     */
+    private void acceptLoop() {
+        ServerSocket socket = serverSocket;
+        int failures = 0;
+        while (!socket.isClosed()) {
+            Socket connection;
+            try {
+                connection = socket.accept();
+            } catch (IOException e) {
+                if (socket.isClosed()) {
+                    return; // close() was called
+                }
+                failures++;
+                if (failures >= MAX_ACCEPT_FAILURES) {
+                    log.println("Stopped listening on port " + socket.getLocalPort() + " after " + failures
+                            + " failed accepts: " + e.getMessage());
+                    closeQuietly(socket);
+                    return;
+                }
+                if (failures == 1) {
+                    log.println("Accept failed, backing off: " + e.getMessage());
+                }
+                if (!backOff(failures)) {
+                    closeQuietly(socket);
+                    return;
+                }
+                continue;
+            }
+            failures = 0;
+            try {
+                startSession(new StreamIO(connection.getInputStream(), connection.getOutputStream()));
+            } catch (IOException e) {
+                closeQuietly(connection); // this connection is lost, but the server keeps going
+            }
+        }
+    }
+
+    // Sleeps ACCEPT_BACKOFF_MILLIS doubled per earlier failure, up to a cap; false if interrupted
+    private static boolean backOff(int failures) {
+        long millis = Math.min(MAX_ACCEPT_BACKOFF_MILLIS, ACCEPT_BACKOFF_MILLIS << Math.min(failures - 1, 20));
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // nothing more to do with it
+        }
+    }
+
+    public int getLocalPort() {
+        return serverSocket == null ? -1 : serverSocket.getLocalPort();
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+    }
+}
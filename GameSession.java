@@ -0,0 +1,49 @@
+package snakeladder;
+
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * One interactive game hosted by GameServer, with its own board, engine and
+ * GameIO channel.
+ */
+public class GameSession implements Runnable {
+    private final int id;
+    private final GameEngine engine;
+    private final GameIO io;
+    private final Runnable onFinish;
+    private volatile boolean finished;
+
+    GameSession(int id, GameEngine engine, GameIO io, Runnable onFinish) {
+        this.id = id;
+        this.engine = engine;
+        this.io = io;
+        this.onFinish = onFinish;
+    }
+
+    @Override
+    public void run() {
+        try {
+            engine.play(io);
+        } catch (NoSuchElementException | UncheckedIOException e) {
+            // The player disconnected; nothing left to do for this game
+        } finally {
+            io.close();
+            finished = true;
+            onFinish.run();
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    // Ends the session; a game waiting for input stops at its next read
+    public void close() {
+        io.close();
+    }
+}
@@ -0,0 +1,78 @@
+package snakeladder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs complete games through GameEngine without any console I/O, so board
+ * layouts can be evaluated by Monte Carlo. Every seat is a bot, either the
+ * classic full-roll bot or one with its own BotStrategy; a strategy can
+ * follow a script, and a DiceSet over a ReplayRandom scripts the rolls.
+ *
+ * One engine plays every game of a run and is reset between games, so the
+ * per-game cost is the game itself, not a new occupancy table and turn
+ * scheduler.
+ */
+public class GameSimulator {
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private final Board board;
+    private final DiceSet diceSet;
+    private final List<BotStrategy> strategies; // by seat
+    private final int maxTurns;
+    private MoveMode moveMode = MoveMode.SUM;
+    private GameMetrics metrics = GameMetrics.DISABLED;
+
+    public GameSimulator(Board board, DiceSet diceSet, int seats) {
+        this(board, diceSet, seats, DEFAULT_MAX_TURNS);
+    }
+
+    public GameSimulator(Board board, DiceSet diceSet, int seats, int maxTurns) {
+        this(board, diceSet, Collections.nCopies(Math.max(seats, 0), new RandomBotStrategy()), maxTurns);
+    }
+
+    // One seat per strategy, in seat order
+    public GameSimulator(Board board, DiceSet diceSet, List<BotStrategy> strategies, int maxTurns) {
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("Simulation needs at least one seat");
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Max turns must be positive");
+        }
+        this.board = board;
+        this.diceSet = diceSet;
+        this.strategies = List.copyOf(strategies);
+        this.maxTurns = maxTurns;
+    }
+
+    // Instruments every simulated game; GameMetrics.DISABLED (the default) turns it off
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // How rolls become moves; strategies only get a say outside MoveMode.SUM
+    public void setMoveMode(MoveMode moveMode) {
+        this.moveMode = moveMode;
+    }
+
+    public SimulationResult run(int games) {
+        int seats = strategies.size();
+        SimulationResult result = new SimulationResult(seats, maxTurns);
+        List<Player> players = new ArrayList<>(seats);
+        for (int seat = 1; seat <= seats; seat++) {
+            players.add(PlayerFactory.createBot("Bot" + seat, strategies.get(seat - 1)));
+        }
+
+        GameEngine engine = new GameEngine(board, diceSet, players, GameEventSink.NONE);
+        engine.setMoveMode(moveMode);
+        engine.setMetrics(metrics);
+        for (int game = 0; game < games; game++) {
+            engine.reset();
+            engine.playHeadless(maxTurns);
+            result.recordGame(engine.getWinnerSeat(), engine.getTurnCount(), engine.getSnakeHits(),
+                    engine.getLadderHits());
+        }
+        return result;
+    }
+}
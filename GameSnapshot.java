@@ -0,0 +1,94 @@
+package snakeladder;
+
+import java.util.Arrays;
+
+/**
+ * Immutable copy of everything a GameEngine needs to carry on a game from
+ * one point: counters, positions, six streaks, skipped turns, finishing
+ * order and whose turn it is, packed in one int array (5 + 4 per seat).
+ *
+ * The board, dice, players' names and strategies and the rules are not part
+ * of it; restore a snapshot into an engine for the same game, or fork one
+ * with GameEngine.fork. Neither is the dice generator's position, so
+ * continuations differ by the generator they are given.
+ */
+public final class GameSnapshot {
+    private static final int HEADER = 5;
+
+    private final int[] state; // GameEngine.saveState layout; never handed out
+
+    GameSnapshot(int[] state) {
+        this.state = state;
+    }
+
+    int[] state() {
+        return state;
+    }
+
+    public int getSeatCount() {
+        return (state.length - HEADER) / 4;
+    }
+
+    public int getTurnCount() {
+        return state[0];
+    }
+
+    public int getSnakeHits() {
+        return state[1];
+    }
+
+    public int getLadderHits() {
+        return state[2];
+    }
+
+    // Seat to move next
+    public int getCurrentSeat() {
+        return state[3];
+    }
+
+    public int getFinishedCount() {
+        return state[4];
+    }
+
+    public int getPosition(int seat) {
+        return state[HEADER + checkSeat(seat)];
+    }
+
+    public int getConsecutiveSixes(int seat) {
+        return state[HEADER + getSeatCount() + checkSeat(seat)];
+    }
+
+    public int getTurnsToSkip(int seat) {
+        return state[HEADER + 2 * getSeatCount() + checkSeat(seat)];
+    }
+
+    // Seat that finished in the given place (0 = winner), for place < getFinishedCount()
+    public int getFinisher(int place) {
+        if (place < 0 || place >= getFinishedCount()) {
+            throw new IndexOutOfBoundsException("Place " + place + " out of range 0.." + (getFinishedCount() - 1));
+        }
+        return state[HEADER + 3 * getSeatCount() + place];
+    }
+
+    private int checkSeat(int seat) {
+        if (seat < 0 || seat >= getSeatCount()) {
+            throw new IndexOutOfBoundsException("Seat " + seat + " out of range 0.." + (getSeatCount() - 1));
+        }
+        return seat;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GameSnapshot && Arrays.equals(state, ((GameSnapshot) other).state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(state);
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot" + Arrays.toString(state);
+    }
+}
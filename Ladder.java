@@ -22,8 +22,10 @@ public class Ladder implements Entity {
     public String getType() { return "Ladder"; }
     
     @Override
-    public int handleMovement(int currentPosition) {
-        System.out.println("Great! Found a ladder at " + currentPosition + ", climbing up to " + end);
+    public int handleMovement(int currentPosition, GameLog log) {
+        if (log.isEnabled()) {
+            log.println("Great! Found a ladder at " + currentPosition + ", climbing up to " + end);
+        }
         return end;
     }
 }
@@ -0,0 +1,228 @@
+package snakeladder;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A single bot-only game for load testing with hundreds or thousands of
+ * seats on boards of a million cells or more.
+ *
+ * Players are seat numbers, not objects: a seat's cell lives in a
+ * CellOccupancy and its six streak in a byte array, and names are built only
+ * when asked for. A turn reads one jump-table entry, makes one
+ * DiceSet.rollOutcome draw and moves one seat, so its cost doesn't depend on
+ * the seat count; getStatus reports the mover and the start cell instead of
+ * listing every player like GameEngine's board status.
+ *
+ * Plays the default rules the way DenseSimulator does: exact win, kick-out
+ * (optional here), the three-sixes penalty and an extra turn for a 6. The
+ * first seat to reach the last cell wins.
+ */
+public class LargeGame {
+    private static final int START = Occupancy.START_CELL;
+
+    private final LargeGameConfig config;
+    private final CompiledBoard board;
+    private final DiceSet diceSet;
+    private final CellOccupancy occupancy;
+    private final byte[] consecutiveSixes; // by seat
+    private final int seats;
+    private final int winningCell;
+    private final boolean kickOut;
+    private final int snakeCount;
+    private final int ladderCount;
+
+    private int currentSeat;
+    private int winnerSeat = -1;
+    private long turnCount;
+    private long snakeHits;
+    private long ladderHits;
+    private long kicks;
+
+    public LargeGame(LargeGameConfig config, Board board, DiceSet diceSet) {
+        if (board.getWinningCell() != config.getCellCount()) {
+            throw new IllegalArgumentException("Board has " + board.getWinningCell() + " cells, config expects "
+                    + config.getCellCount());
+        }
+        this.config = config;
+        this.board = board.compile();
+        this.diceSet = diceSet;
+        this.seats = config.getSeats();
+        this.winningCell = this.board.getWinningCell();
+        this.kickOut = config.isKickOut();
+        this.occupancy = new CellOccupancy(winningCell, seats);
+        this.consecutiveSixes = new byte[seats];
+
+        // What is really on the board; a generator may place fewer than it was asked for
+        int snakes = 0;
+        int ladders = 0;
+        for (int cell = 1; cell <= winningCell; cell++) {
+            if (this.board.hasEntityAt(cell)) {
+                if (this.board.getEntityEnd(cell) < cell) {
+                    snakes++;
+                } else {
+                    ladders++;
+                }
+            }
+        }
+        this.snakeCount = snakes;
+        this.ladderCount = ladders;
+    }
+
+    // Generates a layout at the configured density and seeds the dice, all from one generator
+    public static LargeGame create(LargeGameConfig config, RandomGenerator random) {
+        Board board = new BoardGenerator(random).generateWithDensity(config.getBoardSize(), config.getEntityDensity());
+        DiceSet diceSet = new DiceSet(config.getDiceCount(), 6, random);
+        return new LargeGame(config, board, diceSet);
+    }
+
+    /**
+     * Plays until a seat wins or maxTurns turns have been played in total.
+     *
+     * @return the winning seat, or -1 if nobody won
+     */
+    public int playHeadless(long maxTurns) {
+        while (winnerSeat < 0 && turnCount < maxTurns) {
+            playTurn();
+        }
+        return winnerSeat;
+    }
+
+    // Plays the next turn and returns true once the game has a winner
+    public boolean playTurn() {
+        if (winnerSeat >= 0) {
+            throw new IllegalStateException("Game is already over");
+        }
+        int seat = currentSeat;
+        int packed = diceSet.rollOutcome();
+        int sum = DiceSet.sumOf(packed);
+        boolean six = DiceSet.sixCountOf(packed) > 0;
+        turnCount++;
+
+        int target = occupancy.cellOf(seat) + sum;
+        boolean extraTurn;
+        if (target > winningCell) {
+            // Exact win: stay put; the streak is untouched but a 6 still earns an extra turn
+            extraTurn = six;
+        } else {
+            int landed = board.getNextPosition(target);
+            snakeHits += landed < target ? 1 : 0;
+            ladderHits += landed > target ? 1 : 0;
+            occupancy.moveTo(seat, landed);
+            if (kickOut) {
+                kicks += occupancy.sendToStart(landed, seat);
+            }
+
+            if (six) {
+                int streak = consecutiveSixes[seat] + 1;
+                if (streak >= 3) {
+                    occupancy.moveTo(seat, START);
+                    consecutiveSixes[seat] = 0;
+                    extraTurn = false;
+                } else {
+                    consecutiveSixes[seat] = (byte) streak;
+                    extraTurn = true;
+                }
+            } else {
+                consecutiveSixes[seat] = 0;
+                extraTurn = false;
+            }
+        }
+
+        if (occupancy.cellOf(seat) == winningCell) {
+            winnerSeat = seat;
+            return true;
+        }
+        if (!extraTurn) {
+            currentSeat = seat + 1 == seats ? 0 : seat + 1;
+        }
+        return false;
+    }
+
+    // Everyone back on the start cell for another game on the same board
+    public void reset() {
+        occupancy.reset();
+        Arrays.fill(consecutiveSixes, (byte) 0);
+        currentSeat = 0;
+        winnerSeat = -1;
+        turnCount = 0;
+        snakeHits = 0;
+        ladderHits = 0;
+        kicks = 0;
+    }
+
+    public LargeGameConfig getConfig() {
+        return config;
+    }
+
+    public CompiledBoard getBoard() {
+        return board;
+    }
+
+    public int getSeatCount() {
+        return seats;
+    }
+
+    public int getSnakeCount() {
+        return snakeCount;
+    }
+
+    public int getLadderCount() {
+        return ladderCount;
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public boolean isOver() {
+        return winnerSeat >= 0;
+    }
+
+    public int getPosition(int seat) {
+        return occupancy.cellOf(seat);
+    }
+
+    // Read-only use only; moving seats behind the game's back breaks its rules
+    public CellOccupancy getOccupancy() {
+        return occupancy;
+    }
+
+    // Built on demand so no per-seat strings are kept
+    public String getPlayerName(int seat) {
+        return "Bot" + (seat + 1);
+    }
+
+    public long getTurnCount() {
+        return turnCount;
+    }
+
+    public long getSnakeHits() {
+        return snakeHits;
+    }
+
+    public long getLadderHits() {
+        return ladderHits;
+    }
+
+    public long getKicks() {
+        return kicks;
+    }
+
+    // One line about the seat to move and the start cell, in O(1)
+    public String getStatus() {
+        int seat = isOver() ? winnerSeat : currentSeat;
+        return "Turn " + turnCount + ": " + getPlayerName(seat) + (isOver() ? " won" : " to move")
+                + " at " + occupancy.cellOf(seat) + ", " + occupancy.countAt(START) + " of " + seats
+                + " on the start cell";
+    }
+
+    // Per-cell and per-seat arrays, not counting the Board's entity map
+    public long estimatedBytes() {
+        return board.estimatedBytes() + occupancy.estimatedBytes() + consecutiveSixes.length;
+    }
+}
@@ -0,0 +1,64 @@
+package snakeladder;
+
+/**
+ * Settings for a LargeGame: hundreds or thousands of bot seats on a board of
+ * up to MAX_CELLS cells. Instead of the fixed size - 3 snakes and ladders,
+ * entityDensity is the fraction of cells that start one (see
+ * BoardGenerator.generateWithDensity).
+ *
+ * The limits keep every per-cell and per-seat array within a few hundred
+ * megabytes; the constructor rejects anything outside them.
+ */
+public class LargeGameConfig extends GameConfig {
+    public static final int MAX_SEATS = 1 << 20;
+    public static final int MAX_CELLS = 1 << 26;
+    public static final double MAX_DENSITY = 0.5;
+    public static final double DEFAULT_DENSITY = 0.02;
+
+    private final int seats;
+    private final double entityDensity;
+    private final boolean kickOut;
+
+    public LargeGameConfig(int boardSize, int diceCount, int seats, double entityDensity, boolean kickOut) {
+        super(boardSize, diceCount);
+        if (boardSize < 2 || (long) boardSize * boardSize > MAX_CELLS) {
+            throw new IllegalArgumentException("Board size must be between 2 and " + (int) Math.sqrt(MAX_CELLS)
+                    + ", got " + boardSize);
+        }
+        if (diceCount < 1) {
+            throw new IllegalArgumentException("Need at least one die");
+        }
+        if (seats < 1 || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("Seats must be between 1 and " + MAX_SEATS + ", got " + seats);
+        }
+        if (!(entityDensity >= 0 && entityDensity <= MAX_DENSITY)) {
+            throw new IllegalArgumentException("Entity density must be between 0 and " + MAX_DENSITY
+                    + ", got " + entityDensity);
+        }
+        this.seats = seats;
+        this.entityDensity = entityDensity;
+        this.kickOut = kickOut;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public double getEntityDensity() {
+        return entityDensity;
+    }
+
+    // With kick-out off, any number of players can share a cell
+    public boolean isKickOut() {
+        return kickOut;
+    }
+
+    public int getCellCount() {
+        return getBoardSize() * getBoardSize();
+    }
+
+    // Snakes to generate, and the same number of ladders
+    public int getEntitiesPerKind() {
+        return BoardGenerator.entitiesPerKind(getBoardSize(), entityDensity);
+    }
+}
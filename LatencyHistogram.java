@@ -0,0 +1,132 @@
+package snakeladder;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram: values below 16
+ * get their own bucket, and every power of two above that is split into 16
+ * sub-buckets, so any recorded value is reported within about 6%. Values are
+ * nanoseconds; anything over about 68 seconds lands in the last bucket.
+ *
+ * Several threads may record into one histogram at once: buckets and totals
+ * are atomic adds and min/max are compare-and-set loops, so nothing takes a
+ * lock. Other threads may read or copy it at any time.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 35;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    // Buckets, then count, sum, min and max
+    private static final int COUNT = BUCKETS;
+    private static final int SUM = BUCKETS + 1;
+    private static final int MIN = BUCKETS + 2;
+    private static final int MAX = BUCKETS + 3;
+
+    private final AtomicLongArray slots = new AtomicLongArray(BUCKETS + 4);
+
+    public LatencyHistogram() {
+        slots.set(MIN, Long.MAX_VALUE);
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        slots.getAndIncrement(bucketOf(Math.min(value, MAX_VALUE)));
+        slots.getAndIncrement(COUNT);
+        slots.getAndAdd(SUM, value);
+        lowerMin(value);
+        raiseMax(value);
+    }
+
+    // Adds another histogram's values into this one
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = other.slots.get(i);
+            if (count != 0) {
+                slots.getAndAdd(i, count);
+            }
+        }
+        slots.getAndAdd(COUNT, other.slots.get(COUNT));
+        slots.getAndAdd(SUM, other.slots.get(SUM));
+        lowerMin(other.slots.get(MIN));
+        raiseMax(other.slots.get(MAX));
+    }
+
+    private void lowerMin(long value) {
+        long current;
+        while (value < (current = slots.get(MIN)) && !slots.compareAndSet(MIN, current, value)) {
+        }
+    }
+
+    private void raiseMax(long value) {
+        long current;
+        while (value > (current = slots.get(MAX)) && !slots.compareAndSet(MAX, current, value)) {
+        }
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    public long getCount() {
+        return slots.get(COUNT);
+    }
+
+    public long getMin() {
+        return getCount() == 0 ? 0 : slots.get(MIN);
+    }
+
+    public long getMax() {
+        return slots.get(MAX);
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) slots.get(SUM) / count;
+    }
+
+    /**
+     * The value below which the given percentage (0-100) of recorded values
+     * fall, reported as the upper edge of its bucket.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += slots.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -0,0 +1,655 @@
+package snakeladder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Simulated annealing over a board's snakes and ladders, aiming for a target
+ * expected game length and a first-seat advantage no larger than allowed.
+ *
+ * Each step moves the start or the end of one entity. Expected turns come
+ * from the same single-player chain MarkovSolver solves, kept in a form
+ * that can be patched instead of solved again:
+ * - every (cell, streak) state is stored as an affine function of a few
+ *   parameters, the values of the states a move can send a player down to
+ *   (the end of a snake chain, or cell 1 after three sixes); everything else
+ *   a state depends on is higher up the board, so the functions are built by
+ *   one pass from the top down
+ * - after a move only the jump-table entries whose chains run through the
+ *   changed cells are recomputed, and only the states at or below the
+ *   highest cell that can land on one of them are rebuilt; rows above are
+ *   reused as they are
+ * - the parameters are then found exactly from a small dense system, one
+ *   unknown per snake streak state
+ * A rejected step restores the rebuilt rows from a copy.
+ *
+ * The first-seat advantage is not incremental: it needs the whole
+ * finish-time distribution, which is propagated in full over the current
+ * jump table for each step whose length alone could still be accepted. It
+ * reuses the optimizer's outcomes, jump table and buffers rather than
+ * building a Board and a MarkovSolver per step.
+ *
+ * Moves keep to the rules Board.validateEntity enforces: ends stay off the
+ * first and winning cells, one entity per start cell, snakes go down,
+ * ladders go up and no chain of entities forms a cycle. The result is
+ * rebuilt through addSnake/addLadder, which checks them again. Memory is
+ * states x parameters doubles, so this is meant for boards of up to a few
+ * thousand cells.
+ */
+public class LayoutOptimizer {
+    private static final int STREAKS = 3;
+    private static final int RESET_SLOT = 0; // parameter for state (1, 0)
+    private static final double SINGULAR = 1e-12;
+    private static final double FAIRNESS_WEIGHT = 10.0;
+
+    private final int size;
+    private final int winningCell;
+    private final int seats;
+    private final RandomGenerator random;
+
+    // Roll outcomes with non-zero probability
+    private final int[] outcomeSum;
+    private final boolean[] outcomeSix;
+    private final double[] outcomeProbability;
+    private final int minSum;
+
+    // Current layout
+    private final int entityCount;
+    private final int[] start;
+    private final int[] end;
+    private final boolean[] snake;
+    private final int[] entityAt; // by start cell, -1 if none
+    private final int[] hop;
+    private final int[] jump;
+
+    // value[state] = constant[state] + sum of weight[state * slots + slot] * parameter[slot]
+    private final int slots; // the reset, then (entity, streak) for where each entity's chain ends
+    private final double[] constant;
+    private final double[] weight;
+    private final double[] savedConstant;
+    private final double[] savedWeight;
+    private int savedTopCell;
+    private final List<int[]> jumpChanges = new ArrayList<>();
+
+    // Buffers for the finish-time distribution behind the fairness check
+    private double[] turnStart;
+    private double[] nextTurnStart;
+    private double[] rolling;
+    private double[] extraRoll;
+    private int[] rollingStates; // states with mass in rolling, then in extraRoll
+    private int[] extraStates;
+    private int extraCount;
+    private double extraMass;
+    private double[] finishedOn = new double[0];
+
+    private double targetTurns = Double.NaN;
+    private double maxAdvantage = 0.01;
+    private double initialTemperature = 0.05;
+    private double finalTemperature = 0.0005;
+
+    private double currentTurns;
+    private double currentAdvantage;
+    private double currentScore;
+    private int[] bestStart;
+    private int[] bestEnd;
+    private double bestTurns;
+    private double bestAdvantage;
+    private double bestScore;
+    private long rebuiltStates;
+    private long acceptedMoves;
+
+    public LayoutOptimizer(Board board, int diceCount, int faces, int seats, RandomGenerator random) {
+        if (diceCount < 1 || faces < 1) {
+            throw new IllegalArgumentException("Need at least one die with at least one face");
+        }
+        if (seats < 1) {
+            throw new IllegalArgumentException("Need at least one seat");
+        }
+        List<Entity> entities = board.getEntities();
+        if (entities.isEmpty()) {
+            throw new IllegalArgumentException("Board has no snakes or ladders to move");
+        }
+        this.size = board.getSize();
+        this.winningCell = board.getWinningCell();
+        this.seats = seats;
+        this.random = random;
+
+        DiceDistribution distribution = DiceDistribution.of(diceCount, faces);
+        List<int[]> outcomes = new ArrayList<>();
+        for (int sum = distribution.getMinSum(); sum <= distribution.getMaxSum(); sum++) {
+            for (int six = 0; six < 2; six++) {
+                if (distribution.getProbability(sum, six == 1) > 0) {
+                    outcomes.add(new int[] {sum, six});
+                }
+            }
+        }
+        this.outcomeSum = new int[outcomes.size()];
+        this.outcomeSix = new boolean[outcomes.size()];
+        this.outcomeProbability = new double[outcomes.size()];
+        for (int i = 0; i < outcomes.size(); i++) {
+            int[] outcome = outcomes.get(i);
+            outcomeSum[i] = outcome[0];
+            outcomeSix[i] = outcome[1] == 1;
+            outcomeProbability[i] = distribution.getProbability(outcome[0], outcome[1] == 1);
+        }
+        this.minSum = outcomeSum[0];
+
+        this.entityCount = entities.size();
+        this.start = new int[entityCount];
+        this.end = new int[entityCount];
+        this.snake = new boolean[entityCount];
+        this.entityAt = new int[winningCell + 1];
+        this.hop = new int[winningCell + 1];
+        this.jump = new int[winningCell + 1];
+        Arrays.fill(entityAt, -1);
+        for (int cell = 0; cell <= winningCell; cell++) {
+            hop[cell] = cell;
+        }
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = entities.get(i);
+            start[i] = entity.getStart();
+            end[i] = entity.getEnd();
+            snake[i] = entity.getStart() > entity.getEnd();
+            entityAt[start[i]] = i;
+            hop[start[i]] = end[i];
+        }
+        for (int cell = 0; cell <= winningCell; cell++) {
+            jump[cell] = resolve(cell);
+        }
+
+        int stateCount = (winningCell + 1) * STREAKS;
+        this.slots = 1 + entityCount * STREAKS;
+        this.constant = new double[stateCount];
+        this.weight = new double[stateCount * slots];
+        this.savedConstant = new double[stateCount];
+        this.savedWeight = new double[stateCount * slots];
+        this.turnStart = new double[stateCount];
+        this.nextTurnStart = new double[stateCount];
+        this.rolling = new double[stateCount];
+        this.extraRoll = new double[stateCount];
+        this.rollingStates = new int[stateCount];
+        this.extraStates = new int[stateCount];
+        rebuild(winningCell - 1);
+        this.currentTurns = solveExpectedTurns();
+        if (!Double.isFinite(currentTurns)) {
+            throw new IllegalArgumentException("Board cannot be finished for certain with these dice");
+        }
+    }
+
+    /**
+     * Sets the goal: expected turns for one player (as
+     * MarkovSolver.getExpectedTurns) and the largest acceptable amount by
+     * which the first seat's win chance may exceed an even share.
+     */
+    public void setTargets(double targetTurns, double maxAdvantage) {
+        if (!(targetTurns > 0) || !(maxAdvantage >= 0)) {
+            throw new IllegalArgumentException("Target turns must be positive and the advantage non-negative");
+        }
+        this.targetTurns = targetTurns;
+        this.maxAdvantage = maxAdvantage;
+    }
+
+    // Temperature falls geometrically from initial to final over a run; scores are relative errors
+    public void setTemperature(double initial, double end) {
+        if (!(initial > 0) || !(end > 0) || end > initial) {
+            throw new IllegalArgumentException("Temperatures must be positive and non-increasing");
+        }
+        this.initialTemperature = initial;
+        this.finalTemperature = end;
+    }
+
+    /**
+     * Runs the given number of annealing steps from the current layout and
+     * returns the best layout seen, including the starting one.
+     */
+    public Board optimize(int steps) {
+        if (Double.isNaN(targetTurns)) {
+            throw new IllegalStateException("Call setTargets before optimize");
+        }
+        currentAdvantage = firstSeatAdvantage(currentTurns);
+        currentScore = score(currentTurns, currentAdvantage);
+        saveBest();
+
+        double cooling = steps > 1 ? Math.pow(finalTemperature / initialTemperature, 1.0 / (steps - 1)) : 1.0;
+        double temperature = initialTemperature;
+        for (int step = 0; step < steps; step++, temperature *= cooling) {
+            int entity = random.nextInt(entityCount);
+            boolean moveStart = random.nextBoolean();
+            int offset = random.nextInt(1, size + 1) * (random.nextBoolean() ? 1 : -1);
+            int newStart = moveStart ? start[entity] + offset : start[entity];
+            int newEnd = moveStart ? end[entity] : end[entity] + offset;
+            if (!canMove(entity, newStart, newEnd)) {
+                continue;
+            }
+
+            // Accept when score <= current + T * -ln(u); draw u first so the bound can skip the fairness solve
+            double threshold = currentScore - temperature * Math.log(1.0 - random.nextDouble());
+            int oldStart = start[entity];
+            int oldEnd = end[entity];
+            double turns = apply(entity, newStart, newEnd);
+            if (Double.isFinite(turns) && lengthError(turns) <= threshold) {
+                double advantage = firstSeatAdvantage(turns);
+                double score = score(turns, advantage);
+                if (score <= threshold) {
+                    currentTurns = turns;
+                    currentAdvantage = advantage;
+                    currentScore = score;
+                    acceptedMoves++;
+                    if (score < bestScore) {
+                        saveBest();
+                    }
+                    continue;
+                }
+            }
+            undo(entity, oldStart, oldEnd);
+        }
+        return getBestBoard();
+    }
+
+    public Board getBestBoard() {
+        Board board = new Board(size);
+        int[] bestStarts = bestStart == null ? start : bestStart;
+        int[] bestEnds = bestEnd == null ? end : bestEnd;
+        for (int i = 0; i < entityCount; i++) {
+            if (bestStarts[i] > bestEnds[i]) {
+                board.addSnake(new Snake(bestStarts[i], bestEnds[i]));
+            } else {
+                board.addLadder(new Ladder(bestStarts[i], bestEnds[i]));
+            }
+        }
+        return board;
+    }
+
+    public double getBestExpectedTurns() {
+        return bestTurns;
+    }
+
+    public double getBestFirstSeatAdvantage() {
+        return bestAdvantage;
+    }
+
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    // Expected turns of the current (last accepted) layout
+    public double getExpectedTurns() {
+        return currentTurns;
+    }
+
+    public long getAcceptedMoves() {
+        return acceptedMoves;
+    }
+
+    // States rebuilt so far, against (cells * 3) for every from-scratch evaluation
+    public long getRebuiltStates() {
+        return rebuiltStates;
+    }
+
+    private boolean canMove(int entity, int newStart, int newEnd) {
+        if (newStart <= 1 || newEnd <= 1 || newStart >= winningCell || newEnd >= winningCell) {
+            return false;
+        }
+        if (snake[entity] ? newStart <= newEnd : newStart >= newEnd) {
+            return false;
+        }
+        if (newStart != start[entity] && entityAt[newStart] != -1) {
+            return false;
+        }
+        // Same walk as Board.wouldCreateCycle, ignoring the entity's own old position
+        int current = newEnd;
+        for (int steps = 0; steps <= entityCount; steps++) {
+            if (current == newStart) {
+                return false;
+            }
+            int next = entityAt[current];
+            if (next == -1 || next == entity) {
+                return true; // the chain stops here, or at the start this entity is leaving
+            }
+            current = end[next];
+        }
+        return false;
+    }
+
+    /**
+     * Moves the entity, patches the jump table and the affected rows.
+     *
+     * @return the new expected turns, infinite if the layout can't be finished for certain
+     */
+    private double apply(int entity, int newStart, int newEnd) {
+        int oldStart = start[entity];
+        hop[oldStart] = oldStart;
+        entityAt[oldStart] = -1;
+        start[entity] = newStart;
+        end[entity] = newEnd;
+        hop[newStart] = newEnd;
+        entityAt[newStart] = entity;
+
+        // Only chains through the two changed cells can move, and every chain starts at an entity
+        jumpChanges.clear();
+        int topCell = 0;
+        topCell = Math.max(topCell, updateJump(oldStart));
+        topCell = Math.max(topCell, updateJump(newStart));
+        for (int i = 0; i < entityCount; i++) {
+            topCell = Math.max(topCell, updateJump(start[i]));
+        }
+
+        savedTopCell = Math.min(topCell, winningCell - 1);
+        int from = stateOf(1, 0);
+        int to = stateOf(savedTopCell + 1, 0);
+        if (to > from) {
+            System.arraycopy(constant, from, savedConstant, from, to - from);
+            System.arraycopy(weight, from * slots, savedWeight, from * slots, (to - from) * slots);
+            rebuild(savedTopCell);
+        }
+        return solveExpectedTurns();
+    }
+
+    // Returns the highest cell whose rolls can land on cell if its jump changed, else 0
+    private int updateJump(int cell) {
+        int resolved = resolve(cell);
+        if (resolved == jump[cell]) {
+            return 0;
+        }
+        jumpChanges.add(new int[] {cell, jump[cell]});
+        jump[cell] = resolved;
+        return cell - minSum;
+    }
+
+    private void undo(int entity, int oldStart, int oldEnd) {
+        hop[start[entity]] = start[entity];
+        entityAt[start[entity]] = -1;
+        start[entity] = oldStart;
+        end[entity] = oldEnd;
+        hop[oldStart] = oldEnd;
+        entityAt[oldStart] = entity;
+        for (int i = jumpChanges.size() - 1; i >= 0; i--) {
+            int[] change = jumpChanges.get(i);
+            jump[change[0]] = change[1];
+        }
+        int from = stateOf(1, 0);
+        int to = stateOf(savedTopCell + 1, 0);
+        if (to > from) {
+            System.arraycopy(savedConstant, from, constant, from, to - from);
+            System.arraycopy(savedWeight, from * slots, weight, from * slots, (to - from) * slots);
+        }
+    }
+
+    private int resolve(int cell) {
+        int current = cell;
+        while (hop[current] != current) {
+            current = hop[current];
+        }
+        return current;
+    }
+
+    // Rebuilds the rows of every state on cells topCell down to 1, which only read rows above them
+    private void rebuild(int topCell) {
+        for (int cell = topCell; cell >= 1; cell--) {
+            for (int streak = 0; streak < STREAKS; streak++) {
+                buildRow(cell, streak);
+            }
+        }
+        rebuiltStates += (long) topCell * STREAKS;
+    }
+
+    // One row of MarkovSolver's equations, with cost 1 per roll that ends the turn
+    private void buildRow(int cell, int streak) {
+        int state = stateOf(cell, streak);
+        int row = state * slots;
+        Arrays.fill(weight, row, row + slots, 0);
+        double selfProbability = 0;
+        double total = 0;
+        for (int i = 0; i < outcomeSum.length; i++) {
+            double p = outcomeProbability[i];
+            boolean six = outcomeSix[i];
+            int landing = cell + outcomeSum[i];
+            if (landing > winningCell) {
+                selfProbability += p; // stays put; the streak is left alone
+                total += six ? 0 : p;
+                continue;
+            }
+            int landed = jump[landing];
+            if (six && streak + 1 >= STREAKS) {
+                // Third six: back to cell 1 even from the winning cell, as in ConsecutiveSixRule
+                total += p;
+                weight[row + RESET_SLOT] += p;
+                continue;
+            }
+            if (landed == winningCell) {
+                total += p;
+                continue;
+            }
+            int nextStreak;
+            if (!six) {
+                nextStreak = 0;
+                total += p;
+            } else {
+                nextStreak = streak + 1;
+            }
+            if (landed > cell) {
+                int other = stateOf(landed, nextStreak);
+                total += p * constant[other];
+                int otherRow = other * slots;
+                for (int slot = 0; slot < slots; slot++) {
+                    weight[row + slot] += p * weight[otherRow + slot];
+                }
+            } else {
+                weight[row + slotOf(entityAt[landing], nextStreak)] += p; // a snake chain back to or below here
+            }
+        }
+        if (selfProbability >= 1.0 - 1e-12) {
+            constant[state] = Double.POSITIVE_INFINITY;
+            return;
+        }
+        double scale = 1.0 / (1.0 - selfProbability);
+        constant[state] = total * scale;
+        for (int slot = 0; slot < slots; slot++) {
+            weight[row + slot] *= scale;
+        }
+    }
+
+    /**
+     * Solves parameter = value(state it stands for) for the parameters that
+     * can be in use, then evaluates the row of (1, 0).
+     */
+    private double solveExpectedTurns() {
+        int[] active = new int[slots];
+        int[] target = new int[slots];
+        int n = 0;
+        active[n] = RESET_SLOT;
+        target[n++] = stateOf(1, 0);
+        for (int i = 0; i < entityCount; i++) {
+            int landed = jump[start[i]];
+            if (landed < start[i]) {
+                for (int streak = 0; streak < STREAKS; streak++) {
+                    active[n] = slotOf(i, streak);
+                    target[n++] = stateOf(landed, streak);
+                }
+            }
+        }
+
+        double[][] matrix = new double[n][n + 1];
+        for (int r = 0; r < n; r++) {
+            int row = target[r] * slots;
+            if (!Double.isFinite(constant[target[r]])) {
+                return Double.POSITIVE_INFINITY;
+            }
+            for (int c = 0; c < n; c++) {
+                matrix[r][c] = (r == c ? 1.0 : 0.0) - weight[row + active[c]];
+            }
+            matrix[r][n] = constant[target[r]];
+        }
+
+        // Gaussian elimination with partial pivoting; a singular system means some loop never ends
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int r = col + 1; r < n; r++) {
+                if (Math.abs(matrix[r][col]) > Math.abs(matrix[pivot][col])) {
+                    pivot = r;
+                }
+            }
+            if (Math.abs(matrix[pivot][col]) < SINGULAR) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double[] swap = matrix[col];
+            matrix[col] = matrix[pivot];
+            matrix[pivot] = swap;
+            for (int r = col + 1; r < n; r++) {
+                double factor = matrix[r][col] / matrix[col][col];
+                if (factor != 0) {
+                    for (int c = col; c <= n; c++) {
+                        matrix[r][c] -= factor * matrix[col][c];
+                    }
+                }
+            }
+        }
+        double[] parameter = new double[n];
+        for (int r = n - 1; r >= 0; r--) {
+            double sum = matrix[r][n];
+            for (int c = r + 1; c < n; c++) {
+                sum -= matrix[r][c] * parameter[c];
+            }
+            parameter[r] = sum / matrix[r][r];
+        }
+        // The reset parameter is the value of (1, 0) itself
+        return parameter[0] >= 0 ? parameter[0] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * How far the first seat's win chance is above an even share, for the
+     * current layout. The finish-time distribution is pushed through the
+     * optimizer's own jump table and outcomes, turn by turn, into buffers
+     * kept between calls.
+     */
+    private double firstSeatAdvantage(double expectedTurns) {
+        if (seats == 1) {
+            return 0;
+        }
+        int horizon = (int) Math.min(GameSimulator.DEFAULT_MAX_TURNS, Math.ceil(expectedTurns * 10) + 50);
+        double[] wins = MarkovSolver.winProbabilities(finishProbabilities(horizon), seats, horizon);
+        double total = 0;
+        for (double p : wins) {
+            total += p;
+        }
+        return wins[0] / total - 1.0 / seats;
+    }
+
+    /**
+     * Same chain and truncation as MarkovSolver.getFinishProbabilities, read
+     * straight from jump. Extra rolls only start from the few states a six
+     * reaches, so those are kept in a list instead of sweeping every state.
+     */
+    private double[] finishProbabilities(int maxTurns) {
+        if (finishedOn.length < maxTurns + 1) {
+            finishedOn = new double[maxTurns + 1];
+        }
+        Arrays.fill(finishedOn, 0);
+        Arrays.fill(turnStart, 0);
+        turnStart[stateOf(1, 0)] = 1.0;
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            Arrays.fill(nextTurnStart, 0);
+            extraCount = 0;
+            extraMass = 0;
+            double finished = 0;
+            for (int cell = 1; cell < winningCell; cell++) {
+                for (int streak = 0; streak < STREAKS; streak++) {
+                    double mass = turnStart[stateOf(cell, streak)];
+                    if (mass != 0) {
+                        finished += roll(cell, streak, mass);
+                    }
+                }
+            }
+            while (extraCount > 0) {
+                boolean negligible = extraMass <= MarkovSolver.NEGLIGIBLE_MASS;
+                double[] swapMass = rolling;
+                rolling = extraRoll;
+                extraRoll = swapMass;
+                int[] swapStates = rollingStates;
+                rollingStates = extraStates;
+                extraStates = swapStates;
+                int count = extraCount;
+                extraCount = 0;
+                extraMass = 0;
+                for (int k = 0; k < count; k++) {
+                    int state = rollingStates[k];
+                    double mass = rolling[state];
+                    rolling[state] = 0;
+                    if (!negligible) {
+                        finished += roll(state / STREAKS, state % STREAKS, mass);
+                    }
+                }
+            }
+            finishedOn[turn] = finished;
+            double[] swap = turnStart;
+            turnStart = nextTurnStart;
+            nextTurnStart = swap;
+        }
+        return finishedOn;
+    }
+
+    // One roll from (cell, streak): mass goes to the next turn or another roll; returns what finished
+    private double roll(int cell, int streak, double mass) {
+        int state = stateOf(cell, streak);
+        double finished = 0;
+        for (int i = 0; i < outcomeSum.length; i++) {
+            double moved = mass * outcomeProbability[i];
+            boolean six = outcomeSix[i];
+            int landing = cell + outcomeSum[i];
+            if (landing > winningCell) {
+                if (six) {
+                    addExtraRoll(state, moved); // stays put; the streak is left alone
+                } else {
+                    nextTurnStart[state] += moved;
+                }
+            } else if (six && streak + 1 >= STREAKS) {
+                nextTurnStart[stateOf(1, 0)] += moved;
+            } else if (jump[landing] == winningCell) {
+                finished += moved;
+            } else if (!six) {
+                nextTurnStart[stateOf(jump[landing], 0)] += moved;
+            } else {
+                addExtraRoll(stateOf(jump[landing], streak + 1), moved);
+            }
+        }
+        return finished;
+    }
+
+    private void addExtraRoll(int state, double moved) {
+        if (moved == 0) {
+            return;
+        }
+        if (extraRoll[state] == 0) {
+            extraStates[extraCount++] = state;
+        }
+        extraRoll[state] += moved;
+        extraMass += moved;
+    }
+
+    private double lengthError(double turns) {
+        return Math.abs(turns - targetTurns) / targetTurns;
+    }
+
+    private double score(double turns, double advantage) {
+        return lengthError(turns) + FAIRNESS_WEIGHT * Math.max(0, advantage - maxAdvantage);
+    }
+
+    private void saveBest() {
+        bestStart = start.clone();
+        bestEnd = end.clone();
+        bestTurns = currentTurns;
+        bestAdvantage = currentAdvantage;
+        bestScore = currentScore;
+    }
+
+    private static int slotOf(int entity, int streak) {
+        return 1 + entity * STREAKS + streak;
+    }
+
+    private static int stateOf(int cell, int streak) {
+        return cell * STREAKS + streak;
+    }
+}
@@ -0,0 +1,119 @@
+package snakeladder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded, thread-safe cache that evicts the least recently used entries
+ * once the total weight of its values goes over a limit.
+ *
+ * Values are computed outside the lock, so one slow load doesn't block
+ * lookups of other keys, and threads asking for a key that is still loading
+ * wait for that load instead of starting their own.
+ */
+public final class LruCache<K, V> {
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true); // guarded by this
+    private long weight; // guarded by this
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    // The cached value for key, loading it if needed; a failed load is not cached
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry;
+        boolean load = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry<>();
+                entries.put(key, entry);
+                load = true;
+            }
+        }
+        if (!load) {
+            hits.increment();
+            return join(entry.value);
+        }
+
+        misses.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            // Only count the value if it wasn't cleared while loading
+            if (entries.get(key) == entry) {
+                entry.weight = weigher.applyAsLong(value);
+                weight += entry.weight;
+                evict();
+            }
+        }
+        entry.value.complete(value);
+        return value;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight);
+    }
+
+    // Drops the least recently used loaded entries, keeping at least the newest one
+    private void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && entries.size() > 1 && it.hasNext()) {
+            Entry<V> eldest = it.next().getValue();
+            if (!eldest.value.isDone()) {
+                continue;
+            }
+            it.remove();
+            weight -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        final CompletableFuture<V> value = new CompletableFuture<>();
+        long weight;
+    }
+}
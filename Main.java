@@ -1,9 +1,39 @@
 package snakeladder;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && "--server".equals(args[0])) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 7000;
+            GameServer server = new GameServer(new GameConfig(10, 1), 1, 1);
+            server.listen(port);
+            System.out.println("Hosting games on localhost:" + server.getLocalPort() + " (1 human vs 1 bot per connection)");
+            if (!server.usesVirtualThreads()) {
+                System.out.println("No virtual threads on this Java version: each session holds a platform thread");
+            }
+            Thread.currentThread().join(); // session threads may be daemons, so keep the JVM alive
+            return;
+        }
+
+        if (args.length > 1 && "--tournament".equals(args[0])) {
+            TournamentConfig config = TournamentConfig.load(Path.of(args[1]));
+            Path results = Path.of(args.length > 2 ? args[2] : "tournament.csv");
+            TournamentRunner runner = new TournamentRunner(config);
+            runner.setProgress(GameLog.CONSOLE, Duration.ofSeconds(5));
+            runner.run(results).printSummary();
+            System.out.println("Results in " + results.toAbsolutePath());
+            return;
+        }
+
+        if (args.length > 2 && "--large".equals(args[0])) {
+            playLargeGame(args);
+            return;
+        }
+
         Scanner sc = new Scanner(System.in);
 
         System.out.print("Enter board size (n for n*n): ");
@@ -15,7 +45,7 @@ public class Main {
         System.out.print("Enter number of players (2-6): ");
         int totalPlayers = sc.nextInt();
         if (totalPlayers < 2 || totalPlayers > 6) {
-            throw new IllegalArgumentException("Players must be between 2 and 6");
+            throw new IllegalArgumentException("Players must be between 2 and 6 (use --large for bigger bot-only games)");
         }
 
         System.out.print("Enter number of human players: ");
@@ -42,4 +72,32 @@ public class Main {
         GameEngine engine = new GameEngine(board, diceSet, players);
         engine.play();
     }
+
+    // --large <board size> <seats> [entity density] [dice] [seed]
+    private static void playLargeGame(String[] args) {
+        int size = Integer.parseInt(args[1]);
+        int seats = Integer.parseInt(args[2]);
+        double density = args.length > 3 ? Double.parseDouble(args[3]) : LargeGameConfig.DEFAULT_DENSITY;
+        int dice = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+        LargeGameConfig config = new LargeGameConfig(size, dice, seats, density, true);
+
+        long start = System.nanoTime();
+        LargeGame game = LargeGame.create(config, RandomAlgorithm.SPLITTABLE.create(seed));
+        System.out.printf("Generated %d cells with %d snakes and %d ladders in %.1f ms (~%d MB of game state)%n",
+                config.getCellCount(), game.getSnakeCount(), game.getLadderCount(),
+                (System.nanoTime() - start) / 1e6, game.estimatedBytes() >> 20);
+        if (game.getSnakeCount() < config.getEntitiesPerKind() || game.getLadderCount() < config.getEntitiesPerKind()) {
+            System.out.println("Density " + density + " asked for " + config.getEntitiesPerKind()
+                    + " of each; the board had no room for the rest");
+        }
+
+        start = System.nanoTime();
+        game.playHeadless(Long.MAX_VALUE);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(game.getStatus());
+        System.out.printf("%d turns in %.2f s (%.1f M turns/s), %d snakes, %d ladders, %d kicks%n",
+                game.getTurnCount(), seconds, game.getTurnCount() / seconds / 1e6,
+                game.getSnakeHits(), game.getLadderHits(), game.getKicks());
+    }
 }
@@ -0,0 +1,255 @@
+package snakeladder;
+
+import java.util.Arrays;
+
+/**
+ * Exact single-player analysis of a board as an absorbing Markov chain.
+ *
+ * A state is (cell, consecutive-six streak) and each roll is one transition,
+ * following the same rules as GameEngine:
+ * - a roll that overshoots the winning cell leaves the player in place; a six
+ *   still grants an extra turn but the streak is left alone
+ * - landing resolves snakes and ladders through the CompiledBoard jump table
+ * - a six grants an extra turn, and the third six in a row sends the player
+ *   back to cell 1 with no extra turn, even if it reached the winning cell
+ *
+ * A "turn" is one go for the player, including any extra rolls. Kick-outs
+ * depend on the other players and are not modelled.
+ *
+ * Transitions are stored in compressed sparse rows and expected values are
+ * solved with Gauss-Seidel sweeps from the top of the board down, so a 10,000
+ * cell board needs a few hundred thousand transitions rather than a dense
+ * 30,000 x 30,000 matrix.
+ */
+public class MarkovSolver {
+    private static final int STREAKS = 3;
+    private static final int FINISHED = -1;
+    private static final int MAX_ITERATIONS = 100_000;
+    private static final double TOLERANCE = 1e-10;
+    static final double NEGLIGIBLE_MASS = 1e-15; // extra rolls stop once less than this is still rolling
+
+    private final int winningCell;
+    private final int stateCount;
+    private final int[] rowStart;
+    private final int[] target;
+    private final double[] probability;
+    private final boolean[] endsTurn;
+    private volatile double[] expectedTurns; // solved on first use
+    private volatile double[] expectedRolls;
+
+    public MarkovSolver(Board board, DiceSet diceSet) {
+        this(board.compile(), diceSet.getDiceCount(), diceSet.getFaces());
+    }
+
+    public MarkovSolver(CompiledBoard board, int diceCount, int faces) {
+        if (diceCount < 1 || faces < 1) {
+            throw new IllegalArgumentException("Need at least one die with at least one face");
+        }
+        this.winningCell = board.getWinningCell();
+        this.stateCount = (winningCell + 1) * STREAKS;
+
+        double[][] outcomes = DiceDistribution.of(diceCount, faces).getJointTable();
+        int outcomeCount = 0;
+        for (double[] bySix : outcomes) {
+            for (double p : bySix) {
+                if (p > 0) {
+                    outcomeCount++;
+                }
+            }
+        }
+
+        this.rowStart = new int[stateCount + 1];
+        this.target = new int[stateCount * outcomeCount];
+        this.probability = new double[stateCount * outcomeCount];
+        this.endsTurn = new boolean[stateCount * outcomeCount];
+
+        int next = 0;
+        for (int state = 0; state < stateCount; state++) {
+            rowStart[state] = next;
+            int cell = state / STREAKS;
+            int streak = state % STREAKS;
+            if (cell < 1 || cell >= winningCell) {
+                continue; // no transitions out of cell 0 or the winning cell
+            }
+            for (int sum = 0; sum < outcomes.length; sum++) {
+                for (int six = 0; six < 2; six++) {
+                    double p = outcomes[sum][six];
+                    if (p == 0) {
+                        continue;
+                    }
+                    boolean rolledSix = six == 1;
+                    probability[next] = p;
+                    if (cell + sum > winningCell) {
+                        target[next] = state;
+                        endsTurn[next] = !rolledSix;
+                    } else {
+                        int landed = board.getNextPosition(cell + sum);
+                        if (rolledSix && streak + 1 >= STREAKS) {
+                            // The penalty applies before the win check, even on the winning cell
+                            target[next] = stateOf(1, 0);
+                            endsTurn[next] = true;
+                        } else if (landed == winningCell) {
+                            target[next] = FINISHED;
+                            endsTurn[next] = true;
+                        } else if (!rolledSix) {
+                            target[next] = stateOf(landed, 0);
+                            endsTurn[next] = true;
+                        } else {
+                            target[next] = stateOf(landed, streak + 1);
+                            endsTurn[next] = false;
+                        }
+                    }
+                    next++;
+                }
+            }
+        }
+        rowStart[stateCount] = next;
+    }
+
+    private static int stateOf(int cell, int streak) {
+        return cell * STREAKS + streak;
+    }
+
+    /**
+     * Expected number of turns for a single player starting on cell 1 to
+     * finish. Infinite if there is a reachable cell from which the winning
+     * cell can never be hit exactly.
+     */
+    public double getExpectedTurns() {
+        double[] result = expectedTurns;
+        if (result == null) {
+            result = solve(false);
+            expectedTurns = result;
+        }
+        return result[stateOf(1, 0)];
+    }
+
+    /**
+     * Expected number of dice rolls for a single player to finish, counting
+     * every extra roll separately as GameEngine.getTurnCount does.
+     */
+    public double getExpectedRolls() {
+        double[] result = expectedRolls;
+        if (result == null) {
+            result = solve(true);
+            expectedRolls = result;
+        }
+        return result[stateOf(1, 0)];
+    }
+
+    long estimatedBytes() {
+        return 64 + 4L * rowStart.length + 13L * target.length + 16L * stateCount;
+    }
+
+    /**
+     * Solves x[s] = sum over transitions of p * (cost + x[target]), where the
+     * cost is 1 per roll or 1 per roll that ends the turn (the winning roll
+     * included).
+     */
+    private double[] solve(boolean costPerRoll) {
+        double[] expected = new double[stateCount];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double maxChange = 0;
+            for (int state = stateCount - 1; state >= 0; state--) {
+                double selfProbability = 0;
+                double total = 0;
+                for (int t = rowStart[state]; t < rowStart[state + 1]; t++) {
+                    double p = probability[t];
+                    total += costPerRoll || endsTurn[t] ? p : 0;
+                    if (target[t] == state) {
+                        selfProbability += p;
+                    } else if (target[t] != FINISHED) {
+                        total += p * expected[target[t]];
+                    }
+                }
+                double updated = selfProbability >= 1.0 - 1e-12
+                        ? Double.POSITIVE_INFINITY
+                        : total / (1.0 - selfProbability);
+                if (Double.isFinite(updated)) {
+                    maxChange = Math.max(maxChange, Math.abs(updated - expected[state]) / Math.max(1.0, updated));
+                }
+                expected[state] = updated;
+            }
+            if (maxChange < TOLERANCE) {
+                return expected;
+            }
+        }
+        throw new IllegalStateException("Expected values did not converge; the board may be unwinnable");
+    }
+
+    /**
+     * Probability that a single player finishes on exactly their t-th turn,
+     * for t = 1..maxTurns. Index 0 is always zero.
+     */
+    public double[] getFinishProbabilities(int maxTurns) {
+        double[] finished = new double[maxTurns + 1];
+        double[] turnStart = new double[stateCount];
+        double[] nextTurnStart = new double[stateCount];
+        double[] rolling = new double[stateCount];
+        double[] extraRoll = new double[stateCount];
+        turnStart[stateOf(1, 0)] = 1.0;
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            Arrays.fill(nextTurnStart, 0);
+            System.arraycopy(turnStart, 0, rolling, 0, stateCount);
+            double extraMass = 1.0;
+            while (extraMass > NEGLIGIBLE_MASS) {
+                Arrays.fill(extraRoll, 0);
+                extraMass = 0;
+                for (int state = 0; state < stateCount; state++) {
+                    double mass = rolling[state];
+                    if (mass == 0) {
+                        continue;
+                    }
+                    for (int t = rowStart[state]; t < rowStart[state + 1]; t++) {
+                        double moved = mass * probability[t];
+                        if (target[t] == FINISHED) {
+                            finished[turn] += moved;
+                        } else if (endsTurn[t]) {
+                            nextTurnStart[target[t]] += moved;
+                        } else {
+                            extraRoll[target[t]] += moved;
+                            extraMass += moved;
+                        }
+                    }
+                }
+                double[] swap = rolling;
+                rolling = extraRoll;
+                extraRoll = swap;
+            }
+            double[] swap = turnStart;
+            turnStart = nextTurnStart;
+            nextTurnStart = swap;
+        }
+        return finished;
+    }
+
+    /**
+     * Probability that each seat wins when all seats play independently and
+     * seat 0 moves first, truncated at maxTurns turns per player. Whatever is
+     * missing from a total of 1 is the chance nobody finished in time.
+     */
+    public double[] getWinProbabilities(int seats, int maxTurns) {
+        return winProbabilities(getFinishProbabilities(maxTurns), seats, maxTurns);
+    }
+
+    // Seat win chances from one player's finish-turn distribution finishedOn[1..maxTurns]
+    static double[] winProbabilities(double[] finishedOn, int seats, int maxTurns) {
+        double[] wins = new double[seats];
+        double finishedBefore = 0;
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            double finishedBy = finishedBefore + finishedOn[turn];
+            for (int seat = 0; seat < seats; seat++) {
+                wins[seat] += finishedOn[turn]
+                        * Math.pow(1.0 - finishedBy, seat)
+                        * Math.pow(1.0 - finishedBefore, seats - 1 - seat);
+            }
+            finishedBefore = finishedBy;
+        }
+        return wins;
+    }
+
+    public int getWinningCell() {
+        return winningCell;
+    }
+}
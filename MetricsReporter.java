@@ -0,0 +1,155 @@
+package snakeladder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Appends a GameMetrics report to a file at a fixed period, and once more on
+ * close. registerMBean exposes the same metrics over JMX instead.
+ */
+public class MetricsReporter implements Closeable {
+    private final GameMetrics metrics;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsReporter(GameMetrics metrics, Path file, Duration period) {
+        this.metrics = metrics;
+        this.file = file;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = period.toMillis();
+        scheduler.scheduleAtFixedRate(this::dumpQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // Appends the current snapshot to the file now
+    public void dump() throws IOException {
+        String report = "# " + Instant.now() + "\n" + metrics.snapshot().format() + "\n";
+        Files.writeString(file, report, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dump();
+    }
+
+    /**
+     * Registers metrics with the platform MBean server as
+     * snakeladder:type=GameMetrics,name=&lt;name&gt;.
+     */
+    public static ObjectName registerMBean(GameMetrics metrics, String name) {
+        try {
+            ObjectName objectName = new ObjectName("snakeladder:type=GameMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsBean(metrics), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics MBean " + name, e);
+        }
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // stops further dumps; close() reports the problem again
+        }
+    }
+
+    private static final class MetricsBean implements GameMetricsMXBean {
+        private final GameMetrics metrics;
+
+        MetricsBean(GameMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        private long count(GameMetrics.Counter counter) {
+            return metrics.snapshot().getCount(counter);
+        }
+
+        private LatencyHistogram turnTimer() {
+            return metrics.snapshot().getTimer(GameMetrics.Timer.TURN);
+        }
+
+        @Override
+        public long getTurns() {
+            return count(GameMetrics.Counter.TURNS);
+        }
+
+        @Override
+        public long getSnakes() {
+            return count(GameMetrics.Counter.SNAKES);
+        }
+
+        @Override
+        public long getLadders() {
+            return count(GameMetrics.Counter.LADDERS);
+        }
+
+        @Override
+        public long getKicks() {
+            return count(GameMetrics.Counter.KICKS);
+        }
+
+        @Override
+        public long getOvershoots() {
+            return count(GameMetrics.Counter.OVERSHOOTS);
+        }
+
+        @Override
+        public long getExtraTurns() {
+            return count(GameMetrics.Counter.EXTRA_TURNS);
+        }
+
+        @Override
+        public long getThreeSixPenalties() {
+            return count(GameMetrics.Counter.THREE_SIX_PENALTIES);
+        }
+
+        @Override
+        public double getTurnMeanNanos() {
+            return turnTimer().getMean();
+        }
+
+        @Override
+        public long getTurnP50Nanos() {
+            return turnTimer().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getTurnP99Nanos() {
+            return turnTimer().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getTurnMaxNanos() {
+            return turnTimer().getMax();
+        }
+
+        @Override
+        public String getReport() {
+            return metrics.snapshot().format();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package snakeladder;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Point-in-time totals from a GameMetrics: counters, the fixed hot-path
+ * timers and one timer per rule.
+ */
+public final class MetricsSnapshot {
+    private final long[] counters;
+    private final LatencyHistogram[] timers;
+    private final List<String> ruleNames;
+    private final LatencyHistogram[] ruleTimers;
+
+    MetricsSnapshot(long[] counters, LatencyHistogram[] timers, List<String> ruleNames, LatencyHistogram[] ruleTimers) {
+        this.counters = counters;
+        this.timers = timers;
+        this.ruleNames = Collections.unmodifiableList(ruleNames);
+        this.ruleTimers = ruleTimers;
+    }
+
+    public long getCount(GameMetrics.Counter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    public LatencyHistogram getTimer(GameMetrics.Timer timer) {
+        return timers[timer.ordinal()];
+    }
+
+    public List<String> getRuleNames() {
+        return ruleNames;
+    }
+
+    // The timer for a rule by class name, or null if no engine has run it
+    public LatencyHistogram getRuleTimer(String name) {
+        int slot = ruleNames.indexOf(name);
+        return slot < 0 ? null : ruleTimers[slot];
+    }
+
+    // A human-readable report, one line per counter group and timer
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        for (GameMetrics.Counter counter : GameMetrics.Counter.values()) {
+            out.append(counter.name().toLowerCase()).append('=').append(getCount(counter)).append(' ');
+        }
+        out.setLength(out.length() - 1);
+        out.append('\n');
+        for (GameMetrics.Timer timer : GameMetrics.Timer.values()) {
+            appendTimer(out, timer.name().toLowerCase(), getTimer(timer));
+        }
+        for (int i = 0; i < ruleNames.size(); i++) {
+            appendTimer(out, "rule." + ruleNames.get(i), ruleTimers[i]);
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static void appendTimer(StringBuilder out, String name, LatencyHistogram histogram) {
+        out.append(String.format("%-28s count=%d mean=%.1fns p50=%dns p99=%dns p99.9=%dns max=%dns%n",
+                name, histogram.getCount(), histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9), histogram.getMax()));
+    }
+}
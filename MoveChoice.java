@@ -0,0 +1,77 @@
+package snakeladder;
+
+/**
+ * The moves a roll allows, handed to a BotStrategy to pick from. GameEngine
+ * reuses one instance per game, so it is only valid during chooseMove.
+ *
+ * Move 0 is always the full roll when that fits on the board; staying put
+ * (a move of 0 cells) comes last when it is allowed.
+ */
+public final class MoveChoice {
+    private final CompiledBoard board;
+    private final int faces;
+    private final MoveMode mode;
+    private final int[] moves;
+    private Player player;
+    private int[] rolls;
+    private int moveCount;
+
+    MoveChoice(CompiledBoard board, int faces, MoveMode mode, int maxMoves) {
+        this.board = board;
+        this.faces = faces;
+        this.mode = mode;
+        this.moves = new int[maxMoves];
+    }
+
+    void begin(Player player, int[] rolls) {
+        this.player = player;
+        this.rolls = rolls;
+        this.moveCount = 0;
+    }
+
+    void addMove(int cells) {
+        moves[moveCount++] = cells;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getPosition() {
+        return player.getPosition();
+    }
+
+    public int getDiceCount() {
+        return rolls.length;
+    }
+
+    public int getRoll(int die) {
+        return rolls[die];
+    }
+
+    public int getFaces() {
+        return faces;
+    }
+
+    public MoveMode getMode() {
+        return mode;
+    }
+
+    public CompiledBoard getBoard() {
+        return board;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    // Number of cells move i advances; 0 means staying put
+    public int getMove(int move) {
+        return moves[move];
+    }
+
+    // Where move i ends up after any snakes and ladders
+    public int getTarget(int move) {
+        return board.getNextPosition(player.getPosition() + moves[move]);
+    }
+}
@@ -0,0 +1,11 @@
+package snakeladder;
+
+/**
+ * How a roll turns into a move.
+ */
+public enum MoveMode {
+    // Move by the sum of all dice; an overshoot means staying put
+    SUM,
+    // Move by the sum of any non-empty subset of the dice, or stay put, which ends the turn
+    CHOOSE_DICE
+}
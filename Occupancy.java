@@ -0,0 +1,16 @@
+package snakeladder;
+
+/**
+ * What rules may see and change about where players stand. Any number of
+ * players can share the start cell; every other cell holds at most one.
+ */
+public interface Occupancy {
+    int START_CELL = 1;
+
+    // The player standing on cell, or null if it is empty or the start cell
+    Player getOccupant(int cell);
+
+    int countAt(int cell);
+
+    void moveToStart(Player player);
+}
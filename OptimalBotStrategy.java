@@ -0,0 +1,33 @@
+package snakeladder;
+
+/**
+ * Picks the move whose landing cell has the fewest expected rolls left,
+ * according to the board's ValueTable. The table is computed once per layout
+ * and shared through BoardCache, so each decision is one table read per
+ * available move.
+ * Stateless apart from that cache, so one instance can serve every bot.
+ */
+public class OptimalBotStrategy implements BotStrategy {
+    private volatile ValueTable table; // the last board seen; tables themselves are immutable
+
+    @Override
+    public int chooseMove(MoveChoice choice) {
+        ValueTable current = table;
+        if (current == null
+                || !current.matches(choice.getBoard(), choice.getDiceCount(), choice.getFaces(), choice.getMode())) {
+            current = ValueTable.of(choice.getBoard(), choice.getDiceCount(), choice.getFaces(), choice.getMode());
+            table = current;
+        }
+
+        int best = 0;
+        double bestValue = Double.POSITIVE_INFINITY;
+        for (int move = 0; move < choice.getMoveCount(); move++) {
+            double value = current.getExpectedRolls(choice.getTarget(move));
+            if (value < bestValue) {
+                best = move;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+}
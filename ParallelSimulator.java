@@ -0,0 +1,120 @@
+package snakeladder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Spreads headless games over a fixed pool of worker threads.
+ *
+ * Games are cut into fixed-size chunks, and each chunk gets its own generator
+ * seeded from the master seed in chunk order. A chunk always
+ * plays the same games whichever thread runs it, so a given master seed gives
+ * identical totals for any thread count. Results are merged in chunk order
+ * as they finish, with only a few chunks in flight per thread, so memory
+ * stays flat however many games are played. The board is shared by all workers
+ * and must not be modified while a run is in progress.
+ */
+public class ParallelSimulator {
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    // Chunks queued or running per worker; enough to keep workers busy while the oldest is merged
+    static final int IN_FLIGHT_PER_THREAD = 4;
+
+    private final Board board;
+    private final int diceCount;
+    private final int diceFaces;
+    private final int seats;
+    private final int maxTurns;
+    private final int threads;
+    private final int chunkSize;
+    private final RandomAlgorithm algorithm;
+    private GameMetrics metrics = GameMetrics.DISABLED;
+
+    public ParallelSimulator(Board board, int diceCount, int diceFaces, int seats, int threads) {
+        this(board, diceCount, diceFaces, seats, GameSimulator.DEFAULT_MAX_TURNS, threads, DEFAULT_CHUNK_SIZE,
+                RandomAlgorithm.SPLITTABLE);
+    }
+
+    public ParallelSimulator(Board board, int diceCount, int diceFaces, int seats,
+                             int maxTurns, int threads, int chunkSize, RandomAlgorithm algorithm) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.board = board;
+        this.diceCount = diceCount;
+        this.diceFaces = diceFaces;
+        this.seats = seats;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.algorithm = algorithm;
+    }
+
+    // Instruments every simulated game; each worker thread records into its own shard
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public SimulationResult run(long games, long masterSeed) {
+        board.compile(); // build the shared jump table before any worker touches it
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long chunks = (games + chunkSize - 1) / chunkSize;
+            return runInOrder(pool, threads, chunks, chunk -> {
+                int chunkGames = (int) Math.min(chunkSize, games - chunk * chunkSize);
+                RandomGenerator chunkRandom = algorithm.create(master.nextLong());
+                return () -> runChunk(chunkGames, chunkRandom);
+            }, new SimulationResult(seats, maxTurns));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits chunks 0 to chunkCount - 1 to the pool and merges each result
+     * into total as soon as it and every earlier chunk are done, so only a
+     * few results are alive at once however many chunks there are. At most
+     * IN_FLIGHT_PER_THREAD chunks per thread are queued or running; chunk is
+     * called in chunk order on the calling thread, so it may draw seeds from
+     * a shared master generator.
+     */
+    static SimulationResult runInOrder(ExecutorService pool, int threads, long chunkCount,
+                                       LongFunction<Callable<SimulationResult>> chunk, SimulationResult total)
+            throws InterruptedException, ExecutionException {
+        int maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+        Deque<Future<SimulationResult>> inFlight = new ArrayDeque<>(maxInFlight);
+        for (long next = 0; next < chunkCount; next++) {
+            if (inFlight.size() == maxInFlight) {
+                total.merge(inFlight.removeFirst().get());
+            }
+            inFlight.addLast(pool.submit(chunk.apply(next)));
+        }
+        while (!inFlight.isEmpty()) {
+            total.merge(inFlight.removeFirst().get());
+        }
+        return total;
+    }
+
+    private SimulationResult runChunk(int games, RandomGenerator random) {
+        DiceSet diceSet = new DiceSet(diceCount, diceFaces, random);
+        GameSimulator simulator = new GameSimulator(board, diceSet, seats, maxTurns);
+        simulator.setMetrics(metrics);
+        return simulator.run(games);
+    }
+}
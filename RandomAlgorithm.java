@@ -0,0 +1,30 @@
+package snakeladder;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random number generators that can back dice and board generation. All of
+ * them except JDK_RANDOM are unsynchronized, so give each thread its own.
+ */
+public enum RandomAlgorithm {
+    JDK_RANDOM("Random"),
+    SPLITTABLE("SplittableRandom"),
+    L64X128_MIX("L64X128MixRandom"),
+    XOSHIRO256_PLUS_PLUS("Xoshiro256PlusPlus");
+
+    private final String jdkName;
+
+    RandomAlgorithm(String jdkName) {
+        this.jdkName = jdkName;
+    }
+
+    // The same seed always produces the same sequence for a given algorithm
+    public RandomGenerator create(long seed) {
+        return RandomGeneratorFactory.of(jdkName).create(seed);
+    }
+
+    public RandomGenerator create() {
+        return RandomGeneratorFactory.of(jdkName).create();
+    }
+}
@@ -1,18 +1,12 @@
 package snakeladder;
 
-import java.util.List;
-
+/**
+ * The classic bot: it leaves everything to the dice and always plays the
+ * first move offered, which is the full roll whenever that fits.
+ */
 public class RandomBotStrategy implements BotStrategy {
     @Override
-    public void takeTurn(BotPlayer player, DiceSet dice, Board board) {
-        List<Integer> rolls = dice.rollAll();
-        int sum = rolls.stream().mapToInt(Integer::intValue).sum();
-        int newPos = player.getPosition() + sum;
-
-        if (newPos <= board.getWinningCell()) {
-            newPos = board.getNextPosition(newPos);
-            player.setPosition(newPos);
-        }
-        System.out.println(player.getName() + " rolled " + rolls + " -> moved to " + player.getPosition());
+    public int chooseMove(MoveChoice choice) {
+        return 0;
     }
 }
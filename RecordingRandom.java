@@ -0,0 +1,50 @@
+package snakeladder;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Wraps another generator and remembers every draw it hands out, so a game's
+ * dice can later be replayed exactly with ReplayRandom.
+ *
+ * Bounded ints come from the wrapped generator's own nextInt(bound); every
+ * other method (nextDouble, nextBoolean, unbounded and ranged ints) is built
+ * on nextLong by RandomGenerator's defaults, so recording those two covers
+ * them all, including DiceSet.rollOutcome.
+ */
+public class RecordingRandom implements RandomGenerator {
+    private final RandomGenerator delegate;
+    private long[] draws;
+    private int count;
+
+    public RecordingRandom(RandomGenerator delegate) {
+        this.delegate = delegate;
+        this.draws = new long[64];
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        int value = delegate.nextInt(bound);
+        record(value);
+        return value;
+    }
+
+    @Override
+    public long nextLong() {
+        long value = delegate.nextLong();
+        record(value);
+        return value;
+    }
+
+    // Every draw in order: bounded ints and raw longs, as ReplayRandom expects them
+    public long[] getRecordedDraws() {
+        return Arrays.copyOf(draws, count);
+    }
+
+    private void record(long value) {
+        if (count == draws.length) {
+            draws = Arrays.copyOf(draws, count * 2);
+        }
+        draws[count++] = value;
+    }
+}
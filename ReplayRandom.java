@@ -0,0 +1,62 @@
+package snakeladder;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays back a fixed sequence of draws, for example those taken by
+ * RecordingRandom. Each nextInt(bound) or nextLong call returns the next
+ * recorded draw, and every other method is built on nextLong as in the
+ * recording, so plugged into a DiceSet it repeats a game roll for roll
+ * whether the dice were rolled one by one or through rollOutcome.
+ */
+public class ReplayRandom implements RandomGenerator {
+    private final long[] draws;
+    private int next;
+
+    public ReplayRandom(long[] draws) {
+        this.draws = draws.clone();
+    }
+
+    // StandardDice draws face - 1, so recorded face values are shifted down
+    public static ReplayRandom ofFaces(int... faces) {
+        long[] draws = new long[faces.length];
+        for (int i = 0; i < faces.length; i++) {
+            draws[i] = faces[i] - 1;
+        }
+        return new ReplayRandom(draws);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        long value = nextDraw();
+        if (value < 0 || value >= bound) {
+            next--;
+            throw new IllegalStateException("Recorded draw " + value + " does not fit bound " + bound);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long nextLong() {
+        return nextDraw();
+    }
+
+    // Moves the cursor so the next call returns the given recorded draw
+    public void seek(int draw) {
+        if (draw < 0 || draw > draws.length) {
+            throw new IndexOutOfBoundsException("Draw " + draw + " out of range 0.." + draws.length);
+        }
+        next = draw;
+    }
+
+    public int getRemaining() {
+        return draws.length - next;
+    }
+
+    private long nextDraw() {
+        if (next == draws.length) {
+            throw new IllegalStateException("Replay ran out of recorded draws after " + next + " draws");
+        }
+        return draws[next++];
+    }
+}
@@ -1,8 +1,15 @@
 package snakeladder;
 
-import java.util.*;
-
 public interface Rule {
-    boolean apply(Player player, List<Integer> rolls, Board board, 
-                  Map<Integer, Player> positionMap);
+    /**
+     * Runs once per roll, after the player has moved (or overshot). Rules
+     * must keep no per-game state of their own; anything they need to
+     * remember goes in the context.
+     */
+    void apply(RuleContext context);
+
+    // Rules that never change anything return true so RuleCompiler can drop them
+    default boolean isNoOp() {
+        return false;
+    }
 }
@@ -0,0 +1,80 @@
+package snakeladder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns a configured rule list into a single TurnResolver:
+ * - rules that report isNoOp() are dropped
+ * - the standard ConsecutiveSixRule + ExtraTurnRule pair gets a dedicated
+ *   resolver with concrete-typed calls and a shortcut for rolls without a 6
+ * - any other combination runs through a plain array of rules
+ *
+ * An engine only ever calls the one resolver it was built with, so with the
+ * default rules the JIT sees a single receiver type and can inline the lot.
+ */
+public final class RuleCompiler {
+    private static final TurnResolver NO_RULES = context -> 0;
+
+    private RuleCompiler() {
+    }
+
+    public static TurnResolver compile(List<Rule> rules) {
+        List<Rule> active = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            if (!rule.isNoOp()) {
+                active.add(rule);
+            }
+        }
+
+        if (active.isEmpty()) {
+            return NO_RULES;
+        }
+        if (active.size() == 2
+                && active.get(0).getClass() == ConsecutiveSixRule.class
+                && active.get(1).getClass() == ExtraTurnRule.class) {
+            return new StandardTurnResolver((ConsecutiveSixRule) active.get(0), (ExtraTurnRule) active.get(1));
+        }
+        return new ChainTurnResolver(active.toArray(new Rule[0]));
+    }
+
+    private static final class StandardTurnResolver implements TurnResolver {
+        private final ConsecutiveSixRule consecutiveSixRule;
+        private final ExtraTurnRule extraTurnRule;
+
+        StandardTurnResolver(ConsecutiveSixRule consecutiveSixRule, ExtraTurnRule extraTurnRule) {
+            this.consecutiveSixRule = consecutiveSixRule;
+            this.extraTurnRule = extraTurnRule;
+        }
+
+        @Override
+        public int resolve(RuleContext context) {
+            // Without a 6 the only effect is that a move resets the streak
+            if (!context.rolledSix()) {
+                if (!context.isOvershoot()) {
+                    context.setConsecutiveSixes(context.getSeat(), 0);
+                }
+                return 0;
+            }
+            consecutiveSixRule.apply(context);
+            extraTurnRule.apply(context);
+            return context.getOutcome();
+        }
+    }
+
+    private static final class ChainTurnResolver implements TurnResolver {
+        private final Rule[] rules;
+
+        ChainTurnResolver(Rule[] rules) {
+            this.rules = rules;
+        }
+
+        @Override
+        public int resolve(RuleContext context) {
+            for (Rule rule : rules) {
+                rule.apply(context);
+            }
+            return context.getOutcome();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package snakeladder;
+
+/**
+ * Per-game state shared by the rule chain. GameEngine fills in the current
+ * roll before running the rules, and the rules record their outcome with
+ * grantExtraTurn/denyExtraTurn and report what happened with publish. Per-seat counters live here rather than in
+ * the rules, so one set of rule instances can serve any number of games.
+ */
+public final class RuleContext {
+    private final Board board;
+    private final Occupancy occupancy;
+    private final GameEventSink events;
+    private final GameEvent event = new GameEvent(); // reused for every published event
+    private final int[] consecutiveSixes; // by seat
+
+    private Player player;
+    private int seat;
+    private int[] rolls;
+    private int rollSum;
+    private int sixCount;
+    private boolean overshoot;
+    private boolean extraTurnGranted;
+    private boolean extraTurnDenied;
+    private int turnsToSkip;
+
+    public RuleContext(Board board, Occupancy occupancy, int seats, GameEventSink events) {
+        this.board = board;
+        this.occupancy = occupancy;
+        this.events = events;
+        this.consecutiveSixes = new int[seats];
+    }
+
+    // Called by the engine before each run of the rules; clears the previous roll's outcome
+    public void beginRoll(Player player, int seat, int[] rolls, int rollSum, boolean overshoot) {
+        this.player = player;
+        this.seat = seat;
+        this.rolls = rolls;
+        this.rollSum = rollSum;
+        this.overshoot = overshoot;
+        this.extraTurnGranted = false;
+        this.extraTurnDenied = false;
+        this.turnsToSkip = 0;
+        int sixes = 0;
+        for (int roll : rolls) {
+            if (roll == 6) {
+                sixes++;
+            }
+        }
+        this.sixCount = sixes;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getDiceCount() {
+        return rolls.length;
+    }
+
+    public int getRoll(int die) {
+        return rolls[die];
+    }
+
+    public int getRollSum() {
+        return rollSum;
+    }
+
+    public int getSixCount() {
+        return sixCount;
+    }
+
+    public boolean rolledSix() {
+        return sixCount > 0;
+    }
+
+    // True when the roll would have gone past the winning cell, so the player didn't move
+    public boolean isOvershoot() {
+        return overshoot;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Occupancy getOccupancy() {
+        return occupancy;
+    }
+
+    public GameEventSink getEvents() {
+        return events;
+    }
+
+    // Sends an event about the current player and roll to the sink, if anyone is listening
+    public void publish(GameEvent.Type type, int count) {
+        if (events.isEnabled()) {
+            int position = player.getPosition();
+            events.onEvent(event.set(type, player, null, rolls, position, position, count));
+        }
+    }
+
+    public int getConsecutiveSixes(int seat) {
+        return consecutiveSixes[seat];
+    }
+
+    public void setConsecutiveSixes(int seat, int count) {
+        consecutiveSixes[seat] = count;
+    }
+
+    public void grantExtraTurn() {
+        extraTurnGranted = true;
+    }
+
+    // A denial wins over any grant, whichever rule runs first
+    public void denyExtraTurn() {
+        extraTurnDenied = true;
+    }
+
+    // The current player misses their next `turns` turns
+    public void skipTurns(int turns) {
+        turnsToSkip += turns;
+    }
+
+    public int getTurnsToSkip() {
+        return turnsToSkip;
+    }
+
+    public boolean isExtraTurnDenied() {
+        return extraTurnDenied;
+    }
+
+    public boolean hasExtraTurn() {
+        return extraTurnGranted && !extraTurnDenied;
+    }
+
+    // The outcome flags packed as TurnResolver bits
+    public int getOutcome() {
+        return (hasExtraTurn() ? TurnResolver.EXTRA_TURN : 0)
+                | (extraTurnDenied ? TurnResolver.EXTRA_TURN_DENIED : 0);
+    }
+}
@@ -0,0 +1,107 @@
+package snakeladder;
+
+/**
+ * Aggregate statistics collected by GameSimulator over many headless games.
+ */
+public class SimulationResult {
+    private final long[] winsBySeat;
+    private final long[] turnHistogram; // index = turns taken to finish the game
+    private long games;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long snakeHits;
+    private long ladderHits;
+
+    public SimulationResult(int seats, int maxTurns) {
+        this.winsBySeat = new long[seats];
+        this.turnHistogram = new long[maxTurns + 1];
+    }
+
+    void recordGame(int winnerSeat, int turns, int snakes, int ladders) {
+        games++;
+        totalTurns += turns;
+        snakeHits += snakes;
+        ladderHits += ladders;
+        if (winnerSeat < 0) {
+            unfinishedGames++;
+        } else {
+            winsBySeat[winnerSeat]++;
+            turnHistogram[turns]++;
+        }
+    }
+
+    /**
+     * Adds another result's counts into this one. Both results must have been
+     * created with the same seat count and turn limit.
+     */
+    public void merge(SimulationResult other) {
+        if (other.winsBySeat.length != winsBySeat.length || other.turnHistogram.length != turnHistogram.length) {
+            throw new IllegalArgumentException("Cannot merge results with different seats or turn limits");
+        }
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+        }
+        for (int turns = 0; turns < turnHistogram.length; turns++) {
+            turnHistogram[turns] += other.turnHistogram[turns];
+        }
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        snakeHits += other.snakeHits;
+        ladderHits += other.ladderHits;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    public int getSeatCount() {
+        return winsBySeat.length;
+    }
+
+    /**
+     * Number of finished games that took exactly the given number of turns.
+     * Extra turns count as separate turns.
+     */
+    public long getGamesFinishedIn(int turns) {
+        return turns < turnHistogram.length ? turnHistogram[turns] : 0;
+    }
+
+    public int getMaxTurns() {
+        return turnHistogram.length - 1;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public long getSnakeHits() {
+        return snakeHits;
+    }
+
+    public long getLadderHits() {
+        return ladderHits;
+    }
+
+    public void printSummary() {
+        System.out.println("\nSimulation Results (" + games + " games):");
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            System.out.printf("Seat %d: %d wins (%.2f%%)%n", seat + 1, winsBySeat[seat], getWinRate(seat) * 100);
+        }
+        System.out.printf("Average turns: %.2f%n", getAverageTurns());
+        System.out.println("Unfinished games: " + unfinishedGames);
+        System.out.println("Snake hits: " + snakeHits + ", ladder hits: " + ladderHits);
+    }
+}
@@ -22,8 +22,10 @@ public class Snake implements Entity {
     public String getType() { return "Snake"; }
     
     @Override
-    public int handleMovement(int currentPosition) {
-        System.out.println("Oops! Hit a snake at " + currentPosition + ", sliding down to " + end);
+    public int handleMovement(int currentPosition, GameLog log) {
+        if (log.isEnabled()) {
+            log.println("Oops! Hit a snake at " + currentPosition + ", sliding down to " + end);
+        }
         return end;
     }
 }
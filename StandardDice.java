@@ -1,18 +1,27 @@
 package snakeladder;
 
-import java.util.*;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class StandardDice implements Dice {
     private final int faces;
-    private final Random random;
+    private final RandomGenerator random;
 
     public StandardDice(int faces) {
+        this(faces, new Random());
+    }
+
+    public StandardDice(int faces, RandomGenerator random) {
         this.faces = faces;
-        this.random = new Random();
+        this.random = random;
+    }
+
+    public int getFaces() {
+        return faces;
     }
 
     @Override
-    public List<Integer> roll() {
-        return Collections.singletonList(random.nextInt(faces) + 1);
+    public int rollValue() {
+        return random.nextInt(faces) + 1;
     }
 }
@@ -0,0 +1,61 @@
+package snakeladder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * GameIO over a pair of byte streams, such as stdin/stdout or a socket.
+ * Every print is flushed so prompts show up before the game blocks on input.
+ */
+public class StreamIO implements GameIO {
+    private final InputStream in;
+    private final BufferedReader reader;
+    private final PrintWriter writer;
+
+    public StreamIO(InputStream in, OutputStream out) {
+        this.in = in;
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new NoSuchElementException("Input closed");
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void print(String text) {
+        writer.print(text);
+        writer.flush();
+    }
+
+    /**
+     * Closes the input side only, like closing a Scanner. The raw stream is
+     * closed rather than the reader so a read blocked on a socket is woken up
+     * instead of holding the reader's lock.
+     */
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package snakeladder;
+
+import java.util.Arrays;
+
+/**
+ * Turns game events back into the familiar console messages and writes them
+ * to a GameLog.
+ */
+public class TextEventRenderer implements GameEventSink {
+    private final GameLog log;
+
+    public TextEventRenderer(GameLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        String line = render(event);
+        if (line != null) {
+            log.println(line);
+        }
+    }
+
+    // The message for an event, or null if it has no console line of its own
+    public static String render(GameEvent event) {
+        String name = event.getPlayer().getName();
+        switch (event.getType()) {
+            case ROLL:
+                return name + " rolled " + Arrays.toString(event.getRolls()) + " -> landed on " + event.getTo();
+            case OVERSHOOT:
+                return name + " rolled " + Arrays.toString(event.getRolls()) + " -> overshoot, staying at " + event.getFrom();
+            case STAY:
+                return name + " rolled " + Arrays.toString(event.getRolls()) + " -> chose to stay at " + event.getFrom();
+            case SNAKE:
+                return "Oops! Hit a snake at " + event.getFrom() + ", sliding down to " + event.getTo();
+            case LADDER:
+                return "Great! Found a ladder at " + event.getFrom() + ", climbing up to " + event.getTo();
+            case KICK:
+                return event.getOtherPlayer().getName() + " was kicked back to start by " + name + "!";
+            case MOVE:
+                return event.getFrom() == event.getTo() ? null : name + " final position: " + event.getTo();
+            case SIX_STREAK:
+                return name + " has rolled " + event.getCount() + " consecutive 6s";
+            case THREE_SIXES:
+                return name + " rolled 3 consecutive 6s! Sent back to position 1!";
+            case EXTRA_TURN:
+                return name + " rolled a 6! Gets another turn!";
+            case EXTRA_TURN_DENIED:
+                return name + " rolled a 6 but no extra turn due to 3 consecutive 6s penalty!";
+            case WIN:
+                return event.getCount() <= 1
+                        ? "\n" + name + " wins the game!"
+                        : "\n" + name + " finishes in " + ordinal(event.getCount()) + " place!";
+            default:
+                return null;
+        }
+    }
+
+    private static String ordinal(int place) {
+        int lastTwo = place % 100;
+        if (lastTwo >= 11 && lastTwo <= 13) {
+            return place + "th";
+        }
+        switch (place % 10) {
+            case 1:
+                return place + "st";
+            case 2:
+                return place + "nd";
+            case 3:
+                return place + "rd";
+            default:
+                return place + "th";
+        }
+    }
+}
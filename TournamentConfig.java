@@ -0,0 +1,229 @@
+package snakeladder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Declarative description of a tournament, read from a properties file:
+ *
+ * <pre>
+ * board.size=10            # size of generated layouts (GameConfig.getBoardSize)
+ * board.generated=200      # random layouts to generate
+ * board.seed=42
+ * board.file=layouts.slb   # optional BoardFileWriter file, played as well
+ * dice.counts=1,2          # every layout is played with each dice count
+ * dice.faces=6
+ * strategies=random,optimal
+ * move.mode=CHOOSE_DICE   # the default; SUM only with a single strategy
+ * games=1000               # games per job
+ * max.turns=10000
+ * seed=1
+ * threads=8
+ * </pre>
+ *
+ * Each strategy is one entrant with one seat. The job matrix is every layout
+ * times every dice count times every rotation of the seating, so each
+ * entrant plays from each seat on each layout. In SUM mode every bot plays
+ * the full roll, so different strategies would play identically and the
+ * win columns would only measure seat order; such specs are rejected.
+ * Everything but the thread
+ * count is part of the fingerprint a results file is tied to.
+ */
+public class TournamentConfig extends GameConfig {
+    private final int generatedBoards;
+    private final long boardSeed;
+    private final Path boardFile;
+    private final List<Integer> diceCounts;
+    private final int faces;
+    private final List<String> strategies;
+    private final MoveMode moveMode;
+    private final int gamesPerJob;
+    private final int maxTurns;
+    private final long seed;
+    private final int threads;
+
+    private TournamentConfig(Properties spec, Path baseDirectory) {
+        super(intValue(spec, "board.size", "10"), parseInts(spec.getProperty("dice.counts", "1")).get(0));
+        this.generatedBoards = intValue(spec, "board.generated", "1");
+        this.boardSeed = Long.parseLong(spec.getProperty("board.seed", "0").trim());
+        String file = spec.getProperty("board.file");
+        this.boardFile = file == null || file.isBlank() ? null : baseDirectory.resolve(file.trim());
+        this.diceCounts = parseInts(spec.getProperty("dice.counts", "1"));
+        this.faces = intValue(spec, "dice.faces", "6");
+        this.strategies = parseNames(spec.getProperty("strategies", "random,optimal"));
+        this.moveMode = MoveMode.valueOf(spec.getProperty("move.mode", "CHOOSE_DICE").trim().toUpperCase(Locale.ROOT));
+        this.gamesPerJob = intValue(spec, "games", "1000");
+        this.maxTurns = intValue(spec, "max.turns", String.valueOf(GameSimulator.DEFAULT_MAX_TURNS));
+        this.seed = Long.parseLong(spec.getProperty("seed", "0").trim());
+        this.threads = intValue(spec, "threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+
+        if (getBoardSize() < 2) {
+            throw new IllegalArgumentException("board.size must be at least 2");
+        }
+        if (generatedBoards < 0 || (generatedBoards == 0 && boardFile == null)) {
+            throw new IllegalArgumentException("Need board.generated > 0 or a board.file");
+        }
+        if (faces < 1 || gamesPerJob < 1 || maxTurns < 1 || threads < 1) {
+            throw new IllegalArgumentException("dice.faces, games, max.turns and threads must be positive");
+        }
+        for (int dice : diceCounts) {
+            if (dice < 1) {
+                throw new IllegalArgumentException("Dice counts must be positive: " + diceCounts);
+            }
+        }
+        for (String strategy : strategies) {
+            createStrategy(strategy);
+        }
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+        if (moveMode == MoveMode.SUM && strategies.stream().distinct().count() > 1) {
+            throw new IllegalArgumentException("Strategies never get a choice with move.mode=SUM, so " + strategies
+                    + " would all play alike; use move.mode=CHOOSE_DICE");
+        }
+        if (moveMode == MoveMode.CHOOSE_DICE && diceCounts.stream().anyMatch(dice -> dice > 16)) {
+            throw new IllegalArgumentException("move.mode=CHOOSE_DICE supports up to 16 dice: " + diceCounts);
+        }
+    }
+
+    public static TournamentConfig load(Path path) throws IOException {
+        Properties spec = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            spec.load(reader);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        return new TournamentConfig(spec, parent);
+    }
+
+    // Relative board.file paths resolve against the working directory
+    public static TournamentConfig of(Properties spec) {
+        return new TournamentConfig(spec, Path.of(""));
+    }
+
+    public static BotStrategy createStrategy(String name) {
+        switch (name) {
+            case "random":
+                return new RandomBotStrategy();
+            case "optimal":
+                return new OptimalBotStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name + " (expected random or optimal)");
+        }
+    }
+
+    public int getGeneratedBoards() {
+        return generatedBoards;
+    }
+
+    public long getBoardSeed() {
+        return boardSeed;
+    }
+
+    // Null when only generated layouts are played
+    public Path getBoardFile() {
+        return boardFile;
+    }
+
+    public List<Integer> getDiceCounts() {
+        return diceCounts;
+    }
+
+    public int getFaces() {
+        return faces;
+    }
+
+    public List<String> getStrategies() {
+        return strategies;
+    }
+
+    public int getSeats() {
+        return strategies.size();
+    }
+
+    public MoveMode getMoveMode() {
+        return moveMode;
+    }
+
+    public int getGamesPerJob() {
+        return gamesPerJob;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Everything that decides which games are played and how, in a fixed
+     * order. Results files record it so a resumed run can't silently mix
+     * results from two different specs. The board file counts by the
+     * layouts in it, not just its name, so an edited or different file of
+     * the same name changes the fingerprint.
+     */
+    public String fingerprint() throws IOException {
+        return "size=" + getBoardSize() + ";generated=" + generatedBoards + ";boardSeed=" + boardSeed
+                + ";file=" + (boardFile == null ? "" : boardFile.getFileName() + "@" + Long.toHexString(boardFileHash()))
+                + ";dice=" + diceCounts + ";faces=" + faces + ";strategies=" + strategies + ";mode=" + moveMode
+                + ";games=" + gamesPerJob + ";maxTurns=" + maxTurns + ";seed=" + seed;
+    }
+
+    // Combined BoardKey content hashes of the board file's layouts, in file order
+    private long boardFileHash() throws IOException {
+        long hash = 0;
+        try (BoardFileReader reader = new BoardFileReader(boardFile)) {
+            for (int i = 0; i < reader.getBoardCount(); i++) {
+                hash = hash * 0x9E3779B97F4A7C15L + reader.readBoard(i).getLayoutKey().getContentHash();
+            }
+        }
+        return hash;
+    }
+
+    private static int intValue(Properties spec, String key, String defaultValue) {
+        String value = spec.getProperty(key, defaultValue).trim();
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a whole number, got: " + value);
+        }
+    }
+
+    private static List<Integer> parseInts(String value) {
+        List<Integer> result = new ArrayList<>();
+        for (String part : parseNames(value)) {
+            try {
+                result.add(Integer.parseInt(part));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a whole number: " + part);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<String> parseNames(String value) {
+        List<String> result = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                result.add(part.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Empty list in tournament spec");
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,92 @@
+package snakeladder;
+
+import java.util.List;
+
+/**
+ * Running totals of a tournament, by entrant and by the seat each entrant
+ * played from. Jobs restored from an earlier, interrupted run are counted
+ * the same way as jobs played in this one.
+ */
+public class TournamentResult {
+    private final List<String> entrants;
+    private final long[][] winsBySeat; // [entrant][seat]
+    private long jobs;
+    private long resumedJobs;
+    private long games;
+    private long unfinishedGames;
+    private long totalTurns;
+
+    TournamentResult(List<String> entrants) {
+        this.entrants = entrants;
+        this.winsBySeat = new long[entrants.size()][entrants.size()];
+    }
+
+    // wins[entrant] from one job in which entrant e sat at seat (e + rotation) % seats
+    void recordJob(int rotation, long jobGames, long unfinished, long turns, long[] wins, boolean resumed) {
+        jobs++;
+        if (resumed) {
+            resumedJobs++;
+        }
+        games += jobGames;
+        unfinishedGames += unfinished;
+        totalTurns += turns;
+        for (int entrant = 0; entrant < wins.length; entrant++) {
+            winsBySeat[entrant][(entrant + rotation) % wins.length] += wins[entrant];
+        }
+    }
+
+    public List<String> getEntrants() {
+        return entrants;
+    }
+
+    public long getWins(int entrant) {
+        long total = 0;
+        for (long wins : winsBySeat[entrant]) {
+            total += wins;
+        }
+        return total;
+    }
+
+    public long getWins(int entrant, int seat) {
+        return winsBySeat[entrant][seat];
+    }
+
+    public double getWinRate(int entrant) {
+        return games == 0 ? 0.0 : (double) getWins(entrant) / games;
+    }
+
+    public long getJobs() {
+        return jobs;
+    }
+
+    public long getResumedJobs() {
+        return resumedJobs;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public void printSummary() {
+        System.out.println("\nTournament Results (" + jobs + " jobs, " + games + " games, "
+                + resumedJobs + " jobs resumed):");
+        for (int entrant = 0; entrant < entrants.size(); entrant++) {
+            StringBuilder seats = new StringBuilder();
+            for (int seat = 0; seat < entrants.size(); seat++) {
+                seats.append(seat == 0 ? "" : ", ").append(winsBySeat[entrant][seat]);
+            }
+            System.out.printf("%s: %d wins (%.2f%%), by seat [%s]%n",
+                    entrants.get(entrant), getWins(entrant), getWinRate(entrant) * 100, seats);
+        }
+        System.out.printf("Average turns: %.2f%n", getAverageTurns());
+        System.out.println("Unfinished games: " + unfinishedGames);
+    }
+}
@@ -0,0 +1,290 @@
+package snakeladder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Plays the job matrix of a TournamentConfig on a work-stealing pool and
+ * streams one CSV row per finished job to a results file.
+ *
+ * Job j covers (layout, dice count, seating rotation) and plays its games
+ * with a generator seeded from the master seed and j alone, so a job's row
+ * is the same whichever thread runs it and whenever. Rows are flushed as
+ * they complete; running again on the same file skips the jobs already in
+ * it (dropping a half-written last line), so an interrupted run picks up
+ * where it stopped.
+ *
+ * File layout: a "# tournament" line with the spec fingerprint, a header,
+ * then rows of job,layout,layout_hash,dice,rotation,games,unfinished,turns
+ * and one wins column per entrant. Rows are in completion order.
+ */
+public class TournamentRunner {
+    private static final String FINGERPRINT_PREFIX = "# tournament ";
+    private static final int FIXED_COLUMNS = 8;
+
+    private final TournamentConfig config;
+    private final List<String> entrants;
+    private GameLog progressLog = GameLog.SILENT;
+    private long progressIntervalNanos = Duration.ofSeconds(1).toNanos();
+
+    // Touched only while holding this runner's lock
+    private BufferedWriter out;
+    private TournamentResult result;
+    private int totalJobs;
+    private long startNanos;
+    private long lastProgressNanos;
+
+    public TournamentRunner(TournamentConfig config) {
+        this.config = config;
+        this.entrants = entrantNames(config.getStrategies());
+    }
+
+    // Prints a progress line to log at most once per interval, and once at the end
+    public void setProgress(GameLog log, Duration interval) {
+        this.progressLog = log;
+        this.progressIntervalNanos = interval.toNanos();
+    }
+
+    public List<String> getEntrants() {
+        return entrants;
+    }
+
+    /**
+     * Runs every job not yet recorded in results, appending a row as each
+     * finishes, and returns the totals over the whole file.
+     */
+    public TournamentResult run(Path results) throws IOException {
+        List<Board> layouts = loadLayouts();
+        List<Integer> diceCounts = config.getDiceCounts();
+        int seats = config.getSeats();
+        totalJobs = layouts.size() * diceCounts.size() * seats;
+        result = new TournamentResult(entrants);
+        String fingerprint = FINGERPRINT_PREFIX + config.fingerprint();
+        BitSet done = resume(results, fingerprint);
+
+        startNanos = System.nanoTime();
+        lastProgressNanos = startNanos;
+        out = Files.newBufferedWriter(results, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        try {
+            synchronized (this) {
+                if (Files.size(results) == 0) {
+                    out.write(fingerprint);
+                    out.newLine();
+                    out.write(header());
+                    out.newLine();
+                    out.flush();
+                }
+            }
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int job = 0; job < totalJobs; job++) {
+                if (done.get(job)) {
+                    continue;
+                }
+                int layout = job / (diceCounts.size() * seats);
+                int dice = diceCounts.get(job / seats % diceCounts.size());
+                int rotation = job % seats;
+                Board board = layouts.get(layout);
+                int jobIndex = job;
+                tasks.add(pool.submit(() -> {
+                    playJob(jobIndex, layout, board, dice, rotation);
+                    return null;
+                }));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament job failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            synchronized (this) {
+                out.close();
+            }
+        }
+
+        synchronized (this) {
+            printProgress(System.nanoTime());
+            return result;
+        }
+    }
+
+    private void playJob(int job, int layout, Board board, int dice, int rotation) {
+        int seats = entrants.size();
+        List<Player> players = new ArrayList<>(Collections.nCopies(seats, null));
+        for (int entrant = 0; entrant < seats; entrant++) {
+            BotStrategy strategy = TournamentConfig.createStrategy(config.getStrategies().get(entrant));
+            players.set((entrant + rotation) % seats, PlayerFactory.createBot(entrants.get(entrant), strategy));
+        }
+        long seed = new SplittableRandom(config.getSeed() ^ (job * 0x9E3779B97F4A7C15L)).nextLong();
+        DiceSet diceSet = new DiceSet(dice, config.getFaces(), RandomAlgorithm.SPLITTABLE.create(seed));
+
+        long[] wins = new long[seats];
+        long unfinished = 0;
+        long turns = 0;
+        GameEngine engine = new GameEngine(board, diceSet, players, GameEventSink.NONE);
+        engine.setMoveMode(config.getMoveMode());
+        for (int game = 0; game < config.getGamesPerJob(); game++) {
+            engine.reset();
+            engine.playHeadless(config.getMaxTurns());
+            turns += engine.getTurnCount();
+            int winnerSeat = engine.getWinnerSeat();
+            if (winnerSeat < 0) {
+                unfinished++;
+            } else {
+                wins[(winnerSeat - rotation + seats) % seats]++;
+            }
+        }
+
+        StringBuilder row = new StringBuilder();
+        row.append(job).append(',').append(layoutName(layout)).append(',')
+                .append(Long.toHexString(board.getLayoutKey().getContentHash())).append(',')
+                .append(dice).append(',').append(rotation).append(',').append(config.getGamesPerJob()).append(',')
+                .append(unfinished).append(',').append(turns);
+        for (long entrantWins : wins) {
+            row.append(',').append(entrantWins);
+        }
+        record(row.toString(), rotation, unfinished, turns, wins);
+    }
+
+    private synchronized void record(String row, int rotation, long unfinished, long turns, long[] wins) {
+        try {
+            out.write(row);
+            out.newLine();
+            out.flush(); // a finished job is never lost to a later crash
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write tournament results", e);
+        }
+        result.recordJob(rotation, config.getGamesPerJob(), unfinished, turns, wins, false);
+
+        long now = System.nanoTime();
+        if (now - lastProgressNanos >= progressIntervalNanos) {
+            printProgress(now);
+        }
+    }
+
+    private void printProgress(long now) {
+        lastProgressNanos = now;
+        if (!progressLog.isEnabled()) {
+            return;
+        }
+        long played = (result.getJobs() - result.getResumedJobs()) * config.getGamesPerJob();
+        double seconds = Math.max(now - startNanos, 1) / 1e9;
+        progressLog.println(String.format("Tournament: %d/%d jobs (%.1f%%), %d games played, %.0f games/s",
+                result.getJobs(), totalJobs, 100.0 * result.getJobs() / totalJobs, played, played / seconds));
+    }
+
+    /**
+     * Reads the rows already in results into the totals and returns their
+     * job numbers. A last line without a newline is cut off, since it was
+     * being written when the previous run stopped.
+     */
+    private BitSet resume(Path results, String fingerprint) throws IOException {
+        BitSet done = new BitSet(totalJobs);
+        if (!Files.exists(results) || Files.size(results) == 0) {
+            return done;
+        }
+        truncateToLastLine(results);
+
+        List<String> lines = Files.readAllLines(results, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return done;
+        }
+        if (!lines.get(0).equals(fingerprint)) {
+            throw new IllegalStateException("Results file " + results + " was written for a different spec: "
+                    + lines.get(0));
+        }
+        for (int i = 2; i < lines.size(); i++) {
+            String[] columns = lines.get(i).split(",");
+            if (columns.length != FIXED_COLUMNS + entrants.size()) {
+                throw new IllegalStateException("Malformed results row " + (i + 1) + ": " + lines.get(i));
+            }
+            int job = Integer.parseInt(columns[0]);
+            if (job < 0 || job >= totalJobs || done.get(job)) {
+                throw new IllegalStateException("Unexpected job in results row " + (i + 1) + ": " + job);
+            }
+            done.set(job);
+            long[] wins = new long[entrants.size()];
+            for (int entrant = 0; entrant < wins.length; entrant++) {
+                wins[entrant] = Long.parseLong(columns[FIXED_COLUMNS + entrant]);
+            }
+            result.recordJob(Integer.parseInt(columns[4]), Long.parseLong(columns[5]),
+                    Long.parseLong(columns[6]), Long.parseLong(columns[7]), wins, true);
+        }
+        return done;
+    }
+
+    private static void truncateToLastLine(Path results) throws IOException {
+        byte[] bytes = Files.readAllBytes(results);
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
+        if (end < bytes.length) {
+            try (FileChannel channel = FileChannel.open(results, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+    }
+
+    private List<Board> loadLayouts() throws IOException {
+        List<Board> layouts = new ArrayList<>();
+        BoardGenerator generator = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(config.getBoardSeed()));
+        for (int i = 0; i < config.getGeneratedBoards(); i++) {
+            layouts.add(generator.generate(config.getBoardSize()));
+        }
+        if (config.getBoardFile() != null) {
+            try (BoardFileReader reader = new BoardFileReader(config.getBoardFile())) {
+                for (int i = 0; i < reader.getBoardCount(); i++) {
+                    layouts.add(reader.readBoard(i));
+                }
+            }
+        }
+        for (Board layout : layouts) {
+            layout.compile(); // jump tables are shared by every job on the layout
+        }
+        return layouts;
+    }
+
+    private String layoutName(int layout) {
+        int generated = config.getGeneratedBoards();
+        return layout < generated ? "generated-" + layout : "file-" + (layout - generated);
+    }
+
+    private String header() {
+        StringBuilder header = new StringBuilder("job,layout,layout_hash,dice,rotation,games,unfinished,turns");
+        for (String entrant : entrants) {
+            header.append(",wins_").append(entrant);
+        }
+        return header.toString();
+    }
+
+    // Strategy names, numbered when the same strategy is entered more than once
+    private static List<String> entrantNames(List<String> strategies) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            String name = strategies.get(i);
+            names.add(Collections.frequency(strategies, name) > 1 ? name + (i + 1) : name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+}
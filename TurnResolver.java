@@ -0,0 +1,20 @@
+package snakeladder;
+
+/**
+ * A rule chain compiled by RuleCompiler into one step. resolve() runs after
+ * RuleContext.beginRoll and returns the turn outcome packed into an int.
+ */
+public interface TurnResolver {
+    int EXTRA_TURN = 1;
+    int EXTRA_TURN_DENIED = 1 << 1;
+
+    int resolve(RuleContext context);
+
+    static boolean hasExtraTurn(int outcome) {
+        return (outcome & EXTRA_TURN) != 0;
+    }
+
+    static boolean isExtraTurnDenied(int outcome) {
+        return (outcome & EXTRA_TURN_DENIED) != 0;
+    }
+}
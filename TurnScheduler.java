@@ -0,0 +1,126 @@
+package snakeladder;
+
+import java.util.Arrays;
+
+/**
+ * Decides whose turn it is, using a fixed ring of seat indices instead of a
+ * queue of players. The seat at the head plays; endTurn either keeps it there
+ * for an extra turn or rotates it to the back. Seats can be made to skip
+ * turns, and finished or eliminated seats leave the ring for good. Nothing is
+ * allocated after construction.
+ */
+public final class TurnScheduler {
+    private final int[] ring;       // active seats in turn order, starting at head
+    private final int[] skips;      // turns still to skip, by seat
+    private final boolean[] active; // by seat
+    private int head;
+    private int size;
+
+    public TurnScheduler(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Scheduler needs at least one seat");
+        }
+        this.ring = new int[seats];
+        this.skips = new int[seats];
+        this.active = new boolean[seats];
+        reset(0);
+    }
+
+    // Every seat active in seat order, starting with firstSeat, and no pending skips
+    public void reset(int firstSeat) {
+        int seats = ring.length;
+        if (firstSeat < 0 || firstSeat >= seats) {
+            throw new IllegalArgumentException("Seat " + firstSeat + " out of range 0.." + (seats - 1));
+        }
+        for (int i = 0; i < seats; i++) {
+            ring[i] = (firstSeat + i) % seats;
+        }
+        Arrays.fill(skips, 0);
+        Arrays.fill(active, true);
+        head = 0;
+        size = seats;
+    }
+
+    public int getSeatCount() {
+        return ring.length;
+    }
+
+    // Seats still taking turns
+    public int getActiveCount() {
+        return size;
+    }
+
+    public boolean isActive(int seat) {
+        return active[seat];
+    }
+
+    // The seat whose turn it is
+    public int current() {
+        if (size == 0) {
+            throw new IllegalStateException("No active seats left");
+        }
+        return ring[head];
+    }
+
+    /**
+     * Ends the current seat's turn. With an extra turn it plays again;
+     * otherwise play passes to the next seat that isn't skipping. Each seat
+     * passed over uses up one of its skipped turns.
+     */
+    public void endTurn(boolean extraTurn) {
+        if (extraTurn || size == 0) {
+            return;
+        }
+        advance();
+        // Every pass over a skipping seat uses up one skip, so this ends
+        while (skips[ring[head]] > 0) {
+            skips[ring[head]]--;
+            advance();
+        }
+    }
+
+    // The seat misses its next `turns` turns, on top of any it already has to skip
+    public void skip(int seat, int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turns to skip must not be negative");
+        }
+        skips[seat] += turns;
+    }
+
+    public int getSkips(int seat) {
+        return skips[seat];
+    }
+
+    /**
+     * Takes a finished or eliminated seat out of the ring. If it was the
+     * current seat, play moves on to the next one (skips are not consumed).
+     */
+    public void remove(int seat) {
+        if (!active[seat]) {
+            return;
+        }
+        active[seat] = false;
+        int capacity = ring.length;
+        int offset = 0;
+        while (ring[(head + offset) % capacity] != seat) {
+            offset++;
+        }
+        // Close the gap by shifting the seats after it one place towards the head
+        for (int i = offset; i < size - 1; i++) {
+            ring[(head + i) % capacity] = ring[(head + i + 1) % capacity];
+        }
+        size--;
+    }
+
+    private void advance() {
+        int capacity = ring.length;
+        if (size == capacity) {
+            head = head + 1 == capacity ? 0 : head + 1;
+        } else {
+            int seat = ring[head];
+            head = head + 1 == capacity ? 0 : head + 1;
+            int tail = head + size - 1;
+            ring[tail >= capacity ? tail - capacity : tail] = seat;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package snakeladder;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Expected number of rolls to finish from each cell when every choice is
+ * made optimally, found once per board by value iteration. Looking up a
+ * cell afterwards is a single array read, which is what OptimalBotStrategy
+ * uses to rank its moves.
+ *
+ * Like MarkovSolver this models one player alone: kick-outs, the
+ * three-sixes penalty and extra turns (each roll counts once either way)
+ * are left out. Cells from which the game can't be finished for certain
+ * are infinite.
+ */
+public final class ValueTable {
+    private static final int MAX_ITERATIONS = 1_000_000;
+    private static final double TOLERANCE = 1e-10;
+
+    private final BoardKey layoutKey;
+    private final int diceCount;
+    private final int faces;
+    private final MoveMode mode;
+    private final double[] expectedRolls; // by cell
+
+    // Distinct sets of moves a roll can offer (bit m of the words = may move m cells), with their odds
+    private final int words;
+    private long[][] outcomeMoves;
+    private double[] outcomeProbability;
+    private final long[] legal; // scratch for legalMoves while the table is built
+
+    ValueTable(CompiledBoard board, int diceCount, int faces, MoveMode mode) {
+        if (diceCount < 1 || faces < 1) {
+            throw new IllegalArgumentException("Need at least one die with at least one face");
+        }
+        this.layoutKey = board.getLayoutKey();
+        this.diceCount = diceCount;
+        this.faces = faces;
+        this.mode = mode;
+        this.words = diceCount * faces / Long.SIZE + 1;
+        this.legal = new long[words];
+        rollOutcomes();
+        this.expectedRolls = solve(board);
+    }
+
+    public static ValueTable of(Board board, int diceCount, int faces, MoveMode mode) {
+        return of(board.compile(), diceCount, faces, mode);
+    }
+
+    // The table for this layout and dice from BoardCache.SHARED, computing it the first time
+    public static ValueTable of(CompiledBoard board, int diceCount, int faces, MoveMode mode) {
+        return BoardCache.SHARED.valueTable(board, diceCount, faces, mode);
+    }
+
+    // Same layout (by content, not instance), dice and move mode
+    public boolean matches(CompiledBoard board, int diceCount, int faces, MoveMode mode) {
+        return this.diceCount == diceCount && this.faces == faces && this.mode == mode
+                && (layoutKey == board.getLayoutKey() || layoutKey.equals(board.getLayoutKey()));
+    }
+
+    public BoardKey getLayoutKey() {
+        return layoutKey;
+    }
+
+    long estimatedBytes() {
+        return 64 + 8L * expectedRolls.length + (32L + 8L * words) * outcomeMoves.length;
+    }
+
+    public double getExpectedRolls(int cell) {
+        return expectedRolls[cell];
+    }
+
+    // From the start cell
+    public double getExpectedRolls() {
+        return expectedRolls[Occupancy.START_CELL];
+    }
+
+    private void rollOutcomes() {
+        if (mode == MoveMode.SUM) {
+            // One move per sum, with the exact odds
+            DiceDistribution distribution = DiceDistribution.of(diceCount, faces);
+            int count = 0;
+            for (int sum = distribution.getMinSum(); sum <= distribution.getMaxSum(); sum++) {
+                count += distribution.getProbability(sum) > 0 ? 1 : 0;
+            }
+            outcomeMoves = new long[count][words];
+            outcomeProbability = new double[count];
+            int i = 0;
+            for (int sum = distribution.getMinSum(); sum <= distribution.getMaxSum(); sum++) {
+                if (distribution.getProbability(sum) > 0) {
+                    outcomeMoves[i][sum / Long.SIZE] = 1L << sum;
+                    outcomeProbability[i++] = distribution.getProbability(sum);
+                }
+            }
+            return;
+        }
+
+        // Any subset of the dice; GameEngine allows up to 16 of them, so the sets stay few
+        Map<BitSet, Double> outcomes = Collections.singletonMap(new BitSet(), 1.0);
+        for (int die = 0; die < diceCount; die++) {
+            Map<BitSet, Double> next = new HashMap<>();
+            for (Map.Entry<BitSet, Double> entry : outcomes.entrySet()) {
+                BitSet moves = entry.getKey();
+                for (int face = 1; face <= faces; face++) {
+                    BitSet withDie = (BitSet) moves.clone();
+                    for (int m = moves.nextSetBit(0); m >= 0; m = moves.nextSetBit(m + 1)) {
+                        withDie.set(m + face);
+                    }
+                    withDie.set(face);
+                    next.merge(withDie, entry.getValue() / faces, Double::sum);
+                }
+            }
+            outcomes = next;
+        }
+        outcomeMoves = new long[outcomes.size()][];
+        outcomeProbability = new double[outcomes.size()];
+        int i = 0;
+        for (Map.Entry<BitSet, Double> entry : outcomes.entrySet()) {
+            outcomeMoves[i] = Arrays.copyOf(entry.getKey().toLongArray(), words);
+            outcomeProbability[i++] = entry.getValue();
+        }
+    }
+
+    private double[] solve(CompiledBoard board) {
+        int winningCell = board.getWinningCell();
+        boolean[] finishable = finishableCells(board);
+        double[] value = new double[winningCell + 1];
+        for (int cell = 1; cell < winningCell; cell++) {
+            if (!finishable[cell]) {
+                value[cell] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        // Gauss-Seidel from the end of the board backwards, where most values come from
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double largestChange = 0;
+            for (int cell = winningCell - 1; cell >= 1; cell--) {
+                if (!finishable[cell]) {
+                    continue;
+                }
+                double expected = 1;
+                double stay = 0; // odds of a roll with nothing to do but stay, solved for exactly
+                for (int outcome = 0; outcome < outcomeMoves.length; outcome++) {
+                    double best = Double.POSITIVE_INFINITY;
+                    long[] moves = legalMoves(cell, outcomeMoves[outcome], winningCell);
+                    if (isStayOnly(moves)) {
+                        stay += outcomeProbability[outcome];
+                        continue;
+                    }
+                    for (int w = 0; w < words; w++) {
+                        for (long rest = moves[w]; rest != 0; rest &= rest - 1) {
+                            int target = board.getNextPosition(cell + w * Long.SIZE + Long.numberOfTrailingZeros(rest));
+                            if (finishable[target]) {
+                                best = Math.min(best, value[target]);
+                            }
+                        }
+                    }
+                    expected += outcomeProbability[outcome] * best;
+                }
+                expected /= 1 - stay;
+                largestChange = Math.max(largestChange, Math.abs(expected - value[cell]) / Math.max(1, expected));
+                value[cell] = expected;
+            }
+            if (largestChange < TOLERANCE) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Value iteration did not converge");
+    }
+
+    // The moves actually open from cell: no overshooting, and a forced stay when nothing fits
+    private long[] legalMoves(int cell, long[] moves, int winningCell) {
+        int room = winningCell - cell;
+        boolean any = false;
+        for (int w = 0; w < words; w++) {
+            int above = room - w * Long.SIZE; // highest legal bit within this word
+            long word = above < 0 ? 0 : above >= Long.SIZE - 1 ? moves[w] : moves[w] & ((1L << (above + 1)) - 1);
+            legal[w] = word;
+            any |= word != 0;
+        }
+        if (mode == MoveMode.CHOOSE_DICE || !any) {
+            legal[0] |= 1L; // staying put
+        }
+        return legal;
+    }
+
+    private boolean isStayOnly(long[] moves) {
+        if (moves[0] != 1L) {
+            return false;
+        }
+        for (int w = 1; w < words; w++) {
+            if (moves[w] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cells from which the game ends with certainty under some policy: every
+     * roll must leave a move into the set, and the winning cell must be
+     * reachable from inside it. Found by trimming both kinds of dead end
+     * until nothing changes.
+     */
+    private boolean[] finishableCells(CompiledBoard board) {
+        int winningCell = board.getWinningCell();
+        boolean[] inSet = new boolean[winningCell + 1];
+        Arrays.fill(inSet, 1, winningCell + 1, true);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            boolean[] reaches = new boolean[winningCell + 1];
+            reaches[winningCell] = true;
+            boolean grew = true;
+            while (grew) {
+                grew = false;
+                for (int cell = winningCell - 1; cell >= 1; cell--) {
+                    if (!inSet[cell] || reaches[cell]) {
+                        continue;
+                    }
+                    search:
+                    for (long[] outcome : outcomeMoves) {
+                        long[] moves = legalMoves(cell, outcome, winningCell);
+                        for (int w = 0; w < words; w++) {
+                            for (long rest = w == 0 ? moves[0] & ~1L : moves[w]; rest != 0; rest &= rest - 1) {
+                                int target = board.getNextPosition(cell + w * Long.SIZE + Long.numberOfTrailingZeros(rest));
+                                if (inSet[target] && reaches[target]) {
+                                    reaches[cell] = true;
+                                    grew = true;
+                                    break search;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (int cell = 1; cell < winningCell; cell++) {
+                if (!inSet[cell]) {
+                    continue;
+                }
+                boolean dead = !reaches[cell];
+                for (int i = 0; i < outcomeMoves.length && !dead; i++) {
+                    boolean escape = false;
+                    long[] moves = legalMoves(cell, outcomeMoves[i], winningCell);
+                    for (int w = 0; w < words && !escape; w++) {
+                        for (long rest = moves[w]; rest != 0 && !escape; rest &= rest - 1) {
+                            escape = inSet[board.getNextPosition(cell + w * Long.SIZE + Long.numberOfTrailingZeros(rest))];
+                        }
+                    }
+                    dead = !escape;
+                }
+                if (dead) {
+                    inSet[cell] = false;
+                    changed = true;
+                }
+            }
+        }
+        return inSet;
+    }
+}
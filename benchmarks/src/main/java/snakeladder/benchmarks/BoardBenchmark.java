@@ -0,0 +1,98 @@
+package snakeladder.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snakeladder.Board;
+import snakeladder.BoardGenerator;
+import snakeladder.CompiledBoard;
+import snakeladder.GameLog;
+import snakeladder.RandomAlgorithm;
+
+/**
+ * Position lookups and layout generation. Lookups walk a fixed pseudo-random
+ * sequence of cells so every cell, with or without an entity, gets hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    private Board board;
+    private CompiledBoard compiledBoard;
+    private int[] cells;
+
+    @Setup
+    public void setup() {
+        board = new Board(size, RandomAlgorithm.SPLITTABLE.create(42));
+        board.generateRandomEntities();
+        compiledBoard = board.compile();
+
+        SplittableRandom random = new SplittableRandom(7);
+        cells = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            cells[i] = random.nextInt(1, board.getWinningCell() + 1);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int boardGetNextPosition() {
+        int total = 0;
+        for (int cell : cells) {
+            total += board.getNextPosition(cell, GameLog.SILENT);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int compiledGetNextPosition() {
+        int total = 0;
+        for (int cell : cells) {
+            total += compiledBoard.getNextPosition(cell);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Board generateRandomEntities() {
+        Board fresh = new Board(size, RandomAlgorithm.SPLITTABLE.create(42));
+        fresh.generateRandomEntities();
+        return fresh;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Board boardGenerator() {
+        return new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(42)).generate(size);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CompiledBoard compile() {
+        Board fresh = new Board(size, RandomAlgorithm.SPLITTABLE.create(42));
+        fresh.generateRandomEntities();
+        return fresh.compile();
+    }
+}
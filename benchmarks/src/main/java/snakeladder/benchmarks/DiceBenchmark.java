@@ -0,0 +1,66 @@
+package snakeladder.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snakeladder.DiceSet;
+import snakeladder.RandomAlgorithm;
+
+/**
+ * One roll of the whole DiceSet through each of its APIs and RNG backends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+    @Param({"1", "2", "4", "16"})
+    int diceCount;
+
+    @Param({"JDK_RANDOM", "SPLITTABLE", "L64X128_MIX"})
+    RandomAlgorithm algorithm;
+
+    private DiceSet diceSet;
+    private int[] rolls;
+
+    @Setup
+    public void setup() {
+        diceSet = new DiceSet(diceCount, 6, algorithm.create(42));
+        rolls = new int[diceCount];
+    }
+
+    @Benchmark
+    public List<Integer> rollAll() {
+        return diceSet.rollAll();
+    }
+
+    @Benchmark
+    public int rollInto() {
+        return diceSet.rollInto(rolls);
+    }
+
+    @Benchmark
+    public int rollPacked() {
+        return diceSet.rollPacked();
+    }
+
+    // One alias-table draw per roll, whatever diceCount is
+    @Benchmark
+    public int rollOutcome() {
+        return diceSet.rollOutcome();
+    }
+}
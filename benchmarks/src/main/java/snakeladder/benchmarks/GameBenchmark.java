@@ -0,0 +1,67 @@
+package snakeladder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snakeladder.Board;
+import snakeladder.DenseSimulator;
+import snakeladder.DiceSet;
+import snakeladder.GameSimulator;
+import snakeladder.RandomAlgorithm;
+import snakeladder.SimulationResult;
+
+/**
+ * Complete headless games per second through GameEngine, and through
+ * DenseSimulator's struct-of-arrays lanes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+    @Param({"10", "30"})
+    int size;
+
+    @Param({"2", "4"})
+    int seats;
+
+    private static final int DENSE_GAMES = 16_384;
+
+    private GameSimulator simulator;
+    private DenseSimulator denseSimulator;
+
+    @Setup
+    public void setup() {
+        Board board = new Board(size, RandomAlgorithm.SPLITTABLE.create(42));
+        board.generateRandomEntities();
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(7));
+        simulator = new GameSimulator(board, diceSet, seats);
+        denseSimulator = new DenseSimulator(board, new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(7)),
+                seats, 4096, GameSimulator.DEFAULT_MAX_TURNS);
+    }
+
+    @Benchmark
+    public SimulationResult headlessGame() {
+        return simulator.run(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DENSE_GAMES)
+    public SimulationResult denseGame() {
+        return denseSimulator.run(DENSE_GAMES);
+    }
+}
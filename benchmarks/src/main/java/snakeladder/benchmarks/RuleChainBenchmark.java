@@ -0,0 +1,78 @@
+package snakeladder.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snakeladder.Board;
+import snakeladder.BoardOccupancy;
+import snakeladder.DiceSet;
+import snakeladder.GameEngine;
+import snakeladder.GameEventSink;
+import snakeladder.Player;
+import snakeladder.PlayerFactory;
+import snakeladder.RandomAlgorithm;
+import snakeladder.Rule;
+import snakeladder.RuleCompiler;
+import snakeladder.RuleContext;
+import snakeladder.TurnResolver;
+
+/**
+ * The default rules GameEngine applies after every move, run both as a plain
+ * loop and through RuleCompiler, with silent logging and a real dice stream
+ * so sixes show up at the normal rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleChainBenchmark {
+    private List<Rule> rules;
+    private TurnResolver compiled;
+    private DiceSet diceSet;
+    private Player player;
+    private RuleContext context;
+    private int[] rolls;
+
+    @Setup
+    public void setup() {
+        rules = GameEngine.DEFAULT_RULES;
+        compiled = RuleCompiler.compile(rules);
+        Board board = new Board(10, RandomAlgorithm.SPLITTABLE.create(42));
+        board.generateRandomEntities();
+        diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(7));
+        player = PlayerFactory.createHuman("Bench");
+        BoardOccupancy occupancy = new BoardOccupancy(board.getWinningCell(), List.of(player));
+        context = new RuleContext(board, occupancy, 1, GameEventSink.NONE);
+        rolls = new int[1];
+    }
+
+    @Benchmark
+    public boolean applyRules() {
+        int sum = diceSet.rollInto(rolls);
+        context.beginRoll(player, 0, rolls, sum, false);
+        for (int i = 0; i < rules.size(); i++) {
+            rules.get(i).apply(context);
+        }
+        return context.hasExtraTurn();
+    }
+
+    @Benchmark
+    public int compiledResolver() {
+        int sum = diceSet.rollInto(rolls);
+        context.beginRoll(player, 0, rolls, sum, false);
+        return compiled.resolve(context);
+    }
+}
@@ -0,0 +1,70 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventWriterTest {
+    private static final Player BOT = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+
+    private static GameEvent roll(Player player) {
+        return new GameEvent().set(GameEvent.Type.ROLL, player, null, new int[] {3}, 1, 4, 0);
+    }
+
+    // Keeps publishing until onEvent gives up; a producer stuck on a full ring fails the timeout instead
+    private static void assertOnEventFails(AsyncEventWriter writer) {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(RuntimeException.class, () -> {
+                while (true) {
+                    writer.onEvent(roll(BOT));
+                }
+            });
+        });
+    }
+
+    @Test
+    void onEventThrowsAfterAWriteFails() throws IOException {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncEventWriter writer = new AsyncEventWriter(failing, 4);
+
+        writer.onEvent(roll(BOT));
+        assertThrows(IOException.class, writer::flush);
+        assertThrows(UncheckedIOException.class, () -> writer.onEvent(roll(BOT)));
+        assertOnEventFails(writer);
+        assertThrows(IOException.class, writer::close);
+    }
+
+    @Test
+    void onEventDoesNotHangWhenRenderingThrows() {
+        Player broken = new BotPlayer("Broken", new RandomBotStrategy()) {
+            @Override
+            public String getName() {
+                throw new IllegalStateException("no name");
+            }
+        };
+        AsyncEventWriter writer = new AsyncEventWriter(Writer.nullWriter(), 2);
+
+        writer.onEvent(roll(broken));
+        assertOnEventFails(writer);
+        assertThrows(IOException.class, writer::flush);
+    }
+}
@@ -0,0 +1,94 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardFileTest {
+    @TempDir
+    Path directory;
+
+    private Path writeLayouts(int count) throws IOException {
+        List<Board> boards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boards.add(new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(i)).generate(10 + i));
+        }
+        Path file = directory.resolve("layouts.slb");
+        BoardFileWriter.write(file, boards);
+        return file;
+    }
+
+    // Overwrites one big-endian int of the file
+    private static void patchInt(Path file, long position, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt((int) position, value);
+        Files.write(file, bytes);
+    }
+
+    @Test
+    void roundTripsEveryLayout() throws IOException {
+        Path file = writeLayouts(5);
+
+        try (BoardFileReader reader = new BoardFileReader(file)) {
+            assertEquals(5, reader.getBoardCount());
+            for (int i = 0; i < 5; i++) {
+                Board expected = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(i)).generate(10 + i);
+                assertTrue(reader.verify(i));
+                assertEquals(expected.getLayoutKey(), reader.readBoard(i).getLayoutKey(), "board " + i);
+            }
+        }
+    }
+
+    @Test
+    void rejectsARecordWithABadChecksum() throws IOException {
+        Path file = writeLayouts(2);
+        // First entity's end cell of the first record, right after the header
+        long firstEnd = BoardFileWriter.HEADER_BYTES + BoardFileWriter.RECORD_HEADER_BYTES + 4;
+        patchInt(file, firstEnd, 3);
+
+        try (BoardFileReader reader = new BoardFileReader(file)) {
+            assertFalse(reader.verify(0));
+            assertThrows(IllegalStateException.class, () -> reader.readBoard(0));
+            assertTrue(reader.verify(1));
+        }
+    }
+
+    @Test
+    void rejectsABoardCountThatDoesNotFit() throws IOException {
+        Path file = writeLayouts(2);
+        long countPosition = Files.size(file) - BoardFileWriter.FOOTER_BYTES;
+        patchInt(file, countPosition, Integer.MAX_VALUE / 4);
+
+        assertThrows(IOException.class, () -> new BoardFileReader(file));
+    }
+
+    @Test
+    void rejectsAnOffsetOutsideTheRecords() throws IOException {
+        Path file = writeLayouts(2);
+        long secondOffset = Files.size(file) - BoardFileWriter.FOOTER_BYTES - 8;
+        patchInt(file, secondOffset + 4, (int) Files.size(file) - 4);
+
+        assertThrows(IOException.class, () -> new BoardFileReader(file));
+    }
+
+    @Test
+    void rejectsAnEntityCountThatRunsPastTheRecords() throws IOException {
+        Path file = writeLayouts(1);
+        patchInt(file, BoardFileWriter.HEADER_BYTES + 4, 1 << 20);
+
+        try (BoardFileReader reader = new BoardFileReader(file)) {
+            assertThrows(IllegalStateException.class, () -> reader.getEntityCount(0));
+            assertThrows(IllegalStateException.class, () -> reader.readBoard(0));
+        }
+    }
+}
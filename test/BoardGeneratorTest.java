@@ -0,0 +1,62 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BoardGeneratorTest {
+    // Re-adds every entity through Board's own checks, which reject bad cells, shared starts and cycles
+    private static void assertValid(Board board) {
+        Board checked = new Board(board.getSize());
+        for (Entity entity : board.getEntities()) {
+            if (entity.getEnd() < entity.getStart()) {
+                assertTrue(entity.getStart() - entity.getEnd() >= 5, "snake " + entity.getStart());
+                checked.addSnake(new Snake(entity.getStart(), entity.getEnd()));
+            } else {
+                assertTrue(entity.getEnd() - entity.getStart() >= 5, "ladder " + entity.getStart());
+                assertTrue(entity.getStart() <= board.getWinningCell() - board.getSize() - 2, "ladder " + entity.getStart());
+                checked.addLadder(new Ladder(entity.getStart(), entity.getEnd()));
+            }
+        }
+        checked.compile();
+    }
+
+    private static int countSnakes(Board board) {
+        int snakes = 0;
+        for (Entity entity : board.getEntities()) {
+            snakes += entity.getEnd() < entity.getStart() ? 1 : 0;
+        }
+        return snakes;
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void placesTheRequestedCountsWithoutCycles(long seed) {
+        Board board = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(seed)).generate(30, 120, 150);
+
+        assertValid(board);
+        assertEquals(120, countSnakes(board));
+        assertEquals(150, board.getEntities().size() - countSnakes(board));
+    }
+
+    @Test
+    void scalesToAMillionCells() {
+        Board board = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(7)).generateWithDensity(1000, 0.02);
+        int perKind = BoardGenerator.entitiesPerKind(1000, 0.02);
+
+        assertValid(board);
+        assertEquals(perKind, countSnakes(board));
+        assertEquals(2 * perKind, board.getEntities().size());
+    }
+
+    @Test
+    void sameSeedGivesTheSameLayout() {
+        Board first = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(11)).generate(50);
+        Board second = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(11)).generate(50);
+
+        assertEquals(first.getLayoutKey(), second.getLayoutKey());
+    }
+}
@@ -0,0 +1,67 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BoardOccupancyTest {
+    private static final int START = Occupancy.START_CELL;
+
+    private final Player first = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+    private final Player second = PlayerFactory.createBot("Bot2", new RandomBotStrategy());
+    private final Player third = PlayerFactory.createBot("Bot3", new RandomBotStrategy());
+
+    @Test
+    void everyoneSharesTheStartCell() {
+        BoardOccupancy occupancy = new BoardOccupancy(25, List.of(first, second, third));
+        assertEquals(3, occupancy.countAt(START));
+
+        assertNull(occupancy.moveTo(first, 7));
+        assertEquals(2, occupancy.countAt(START));
+        assertEquals(1, occupancy.countAt(7));
+        assertSame(first, occupancy.getOccupant(7));
+
+        // Landing on an occupied cell sends its occupant back to share the start cell
+        assertSame(first, occupancy.moveTo(second, 7));
+        assertEquals(START, first.getPosition());
+        assertEquals(2, occupancy.countAt(START));
+        assertSame(second, occupancy.getOccupant(7));
+
+        occupancy.moveToStart(second);
+        assertEquals(3, occupancy.countAt(START));
+        assertEquals(0, occupancy.countAt(7));
+    }
+
+    @Test
+    void removedPlayersAreNotKicked() {
+        BoardOccupancy occupancy = new BoardOccupancy(25, List.of(first, second));
+        occupancy.moveTo(first, 25);
+        occupancy.remove(first);
+
+        assertNull(occupancy.moveTo(second, 25));
+        assertEquals(25, first.getPosition());
+        assertEquals(0, occupancy.countAt(START));
+    }
+
+    @Test
+    void placeRebuildsFromPositionsAndRejectsSharedCells() {
+        first.setPosition(5);
+        second.setPosition(START);
+        third.setPosition(START);
+        BoardOccupancy occupancy = new BoardOccupancy(25, List.of(first, second, third));
+        assertEquals(2, occupancy.countAt(START));
+        assertSame(first, occupancy.getOccupant(5));
+
+        occupancy.reset(List.of(first, second, third));
+        assertEquals(3, occupancy.countAt(START));
+        assertNull(occupancy.getOccupant(5));
+
+        first.setPosition(9);
+        second.setPosition(9);
+        assertThrows(IllegalArgumentException.class, () -> occupancy.place(List.of(first, second, third)));
+    }
+}
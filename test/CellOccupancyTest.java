@@ -0,0 +1,98 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class CellOccupancyTest {
+    private static final int START = Occupancy.START_CELL;
+
+    private static List<Integer> seatsAt(CellOccupancy occupancy, int cell) {
+        List<Integer> seats = new ArrayList<>();
+        for (int seat = occupancy.firstAt(cell); seat != CellOccupancy.NONE; seat = occupancy.nextOnCell(seat)) {
+            seats.add(seat);
+        }
+        Collections.sort(seats);
+        return seats;
+    }
+
+    @Test
+    void everyoneStartsOnTheStartCell() {
+        CellOccupancy occupancy = new CellOccupancy(100, 5);
+        assertEquals(5, occupancy.countAt(START));
+        assertEquals(List.of(0, 1, 2, 3, 4), seatsAt(occupancy, START));
+        assertEquals(CellOccupancy.NONE, occupancy.firstAt(50));
+    }
+
+    @Test
+    void kickOutSendsEveryoneButTheMoverBack() {
+        CellOccupancy occupancy = new CellOccupancy(100, 6);
+        occupancy.moveTo(0, 40);
+        occupancy.moveTo(1, 40);
+        occupancy.moveTo(2, 40);
+        occupancy.moveTo(3, 70);
+        assertEquals(3, occupancy.countAt(40));
+
+        assertEquals(2, occupancy.sendToStart(40, 1));
+        assertEquals(List.of(1), seatsAt(occupancy, 40));
+        assertEquals(40, occupancy.cellOf(1));
+        assertEquals(START, occupancy.cellOf(0));
+        assertEquals(START, occupancy.cellOf(2));
+        assertEquals(70, occupancy.cellOf(3));
+        assertEquals(List.of(0, 2, 4, 5), seatsAt(occupancy, START));
+        assertEquals(4, occupancy.countAt(START));
+
+        // Nobody else there, and nobody is ever kicked off the start cell
+        assertEquals(0, occupancy.sendToStart(40, 1));
+        assertEquals(0, occupancy.sendToStart(START, 0));
+        assertEquals(4, occupancy.countAt(START));
+    }
+
+    @Test
+    void randomMovesMatchASimpleModel() {
+        int cells = 30;
+        int seats = 12;
+        CellOccupancy occupancy = new CellOccupancy(cells, seats);
+        int[] model = new int[seats];
+        Arrays.fill(model, START);
+        RandomGenerator random = RandomAlgorithm.SPLITTABLE.create(7);
+
+        for (int step = 0; step < 20_000; step++) {
+            int seat = random.nextInt(seats);
+            int target = random.nextInt(1, cells + 1);
+            if (random.nextInt(4) == 0) {
+                int expected = 0;
+                for (int other = 0; other < seats; other++) {
+                    if (other != seat && model[other] == target && target != START) {
+                        model[other] = START;
+                        expected++;
+                    }
+                }
+                assertEquals(expected, occupancy.sendToStart(target, seat), "step " + step);
+            } else {
+                occupancy.moveTo(seat, target);
+                model[seat] = target;
+            }
+            if (step % 1000 == 999) {
+                occupancy.reset();
+                Arrays.fill(model, START);
+            }
+
+            for (int cell = 1; cell <= cells; cell++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int other = 0; other < seats; other++) {
+                    if (model[other] == cell) {
+                        expected.add(other);
+                    }
+                }
+                assertEquals(expected, seatsAt(occupancy, cell), "cell " + cell + " at step " + step);
+                assertEquals(expected.size(), occupancy.countAt(cell));
+            }
+        }
+    }
+}
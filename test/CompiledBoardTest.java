@@ -0,0 +1,63 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledBoardTest {
+    private static void assertSameDestinations(Board board) {
+        CompiledBoard compiled = board.compile();
+        for (int cell = 1; cell <= board.getWinningCell(); cell++) {
+            assertEquals(board.getNextPosition(cell, GameLog.SILENT), compiled.getNextPosition(cell), "cell " + cell);
+        }
+    }
+
+    @Test
+    void followsChainsToTheirEnd() {
+        // 2 -> 8 -> 20 -> 6, and 15 -> 4 on its own
+        Board board = new Board(5);
+        board.addLadder(new Ladder(2, 8));
+        board.addLadder(new Ladder(8, 20));
+        board.addSnake(new Snake(20, 6));
+        board.addSnake(new Snake(15, 4));
+        CompiledBoard compiled = board.compile();
+
+        assertEquals(6, compiled.getNextPosition(2));
+        assertEquals(6, compiled.getNextPosition(8));
+        assertEquals(4, compiled.getNextPosition(15));
+        assertEquals(7, compiled.getNextPosition(7));
+        // A single hop stops after one entity
+        assertTrue(compiled.hasEntityAt(2));
+        assertEquals(8, compiled.getEntityEnd(2));
+        assertFalse(compiled.hasEntityAt(6));
+        assertSameDestinations(board);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 30, 60})
+    void matchesBoardOnRandomLayouts(int size) {
+        for (long seed = 0; seed < 5; seed++) {
+            Board board = new Board(size, RandomAlgorithm.SPLITTABLE.create(seed));
+            board.generateRandomEntities();
+            assertSameDestinations(board);
+        }
+    }
+
+    @Test
+    void rejectsACycle() {
+        Map<Integer, Entity> entities = new HashMap<>();
+        entities.put(3, new Ladder(3, 10));
+        entities.put(10, new Snake(10, 3));
+        BoardKey key = BoardKey.of(4, List.copyOf(entities.values()));
+
+        assertThrows(IllegalStateException.class, () -> new CompiledBoard(key, 16, entities));
+    }
+}
@@ -0,0 +1,71 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DenseSimulatorTest {
+    private static final int GAMES = 20_000;
+
+    // Variance of the turns taken by finished games
+    private static double turnVariance(SimulationResult result) {
+        long finished = 0;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int turns = 1; turns <= result.getMaxTurns(); turns++) {
+            long count = result.getGamesFinishedIn(turns);
+            finished += count;
+            sum += (double) count * turns;
+            sumOfSquares += (double) count * turns * turns;
+        }
+        double mean = sum / finished;
+        return sumOfSquares / finished - mean * mean;
+    }
+
+    @Test
+    void turnDistributionMatchesGameSimulator() {
+        Board board = ParallelSimulatorTest.smallBoard();
+        SimulationResult dense = new DenseSimulator(board, new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(11)), 3,
+                1024, GameSimulator.DEFAULT_MAX_TURNS).run(GAMES);
+        SimulationResult plain = new GameSimulator(board, new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(12)), 3)
+                .run(GAMES);
+
+        assertEquals(GAMES, dense.getGames());
+        assertEquals(0, dense.getUnfinishedGames());
+        assertEquals(0, plain.getUnfinishedGames());
+
+        // Same game, different dice streams: the means should agree within a few standard errors
+        double standardError = Math.sqrt(turnVariance(dense) / GAMES + turnVariance(plain) / GAMES);
+        assertEquals(plain.getAverageTurns(), dense.getAverageTurns(), 4 * standardError);
+        for (int seat = 0; seat < 3; seat++) {
+            double p = plain.getWinRate(seat);
+            double seatError = Math.sqrt(2 * p * (1 - p) / GAMES);
+            assertEquals(p, dense.getWinRate(seat), 4 * seatError, "seat " + seat);
+        }
+        assertEquals((double) plain.getSnakeHits() / GAMES, (double) dense.getSnakeHits() / GAMES,
+                0.05 * plain.getSnakeHits() / GAMES);
+        assertEquals((double) plain.getLadderHits() / GAMES, (double) dense.getLadderHits() / GAMES,
+                0.05 * plain.getLadderHits() / GAMES);
+    }
+
+    @Test
+    void playsExactlyTheRequestedGames() {
+        Board board = ParallelSimulatorTest.smallBoard();
+        for (int lanes : new int[] {1, 7, 64, 1000}) {
+            SimulationResult result = new DenseSimulator(board, new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(5)),
+                    2, lanes, GameSimulator.DEFAULT_MAX_TURNS).run(500);
+            assertEquals(500, result.getGames(), "lanes " + lanes);
+            assertEquals(500, result.getWins(0) + result.getWins(1) + result.getUnfinishedGames(), "lanes " + lanes);
+        }
+    }
+
+    @Test
+    void turnLimitEndsGamesUnfinished() {
+        // Three turns can't cover a 10x10 board
+        SimulationResult result = new DenseSimulator(new Board(10), new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(6)),
+                2, 16, 3).run(100);
+        assertEquals(100, result.getUnfinishedGames());
+        assertTrue(result.getAverageTurns() >= 3);
+    }
+}
@@ -0,0 +1,38 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DiceDistributionTest {
+    // 30 dice and up go through the FFT
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 12, 30, 100, 500, 1000})
+    void impossibleSumsHaveZeroProbability(int count) {
+        DiceDistribution distribution = DiceDistribution.of(count, 6);
+
+        for (int sum = 0; sum < count; sum++) {
+            assertEquals(0.0, distribution.getProbability(sum), "sum " + sum);
+            assertEquals(0.0, distribution.getProbability(sum, true), "sum " + sum + " with a six");
+            assertEquals(0.0, distribution.getProbability(sum, false), "sum " + sum + " without a six");
+        }
+        double[][] table = distribution.getJointTable();
+        for (int sum = 0; sum < count; sum++) {
+            assertEquals(0.0, table[sum][0] + table[sum][1], "joint table sum " + sum);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 100})
+    void tailsKeepTheirRelativeAccuracy(int count) {
+        DiceDistribution distribution = DiceDistribution.of(count, 6);
+        double allOnes = Math.pow(6, -count);
+
+        // All ones, then one die showing a two
+        assertEquals(1.0, distribution.getProbability(count) / allOnes, 1e-9);
+        assertEquals(1.0, distribution.getProbability(count + 1) / (count * allOnes), 1e-9);
+        // All sixes
+        assertEquals(1.0, distribution.getProbability(6 * count, true) / allOnes, 1e-9);
+    }
+}
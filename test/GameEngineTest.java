@@ -0,0 +1,102 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class GameEngineTest {
+    private static final int SEATS = 5;
+
+    // A 3x3 board without entities, so players finish quickly and pile up on cell 9
+    static GameEngine rankAllGame(long seed) {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 1; seat <= SEATS; seat++) {
+            players.add(PlayerFactory.createBot("Bot" + seat, new RandomBotStrategy()));
+        }
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(seed));
+        GameEngine engine = new GameEngine(new Board(3), diceSet, players, GameEventSink.NONE);
+        engine.setRankAll(true);
+        return engine;
+    }
+
+    static void playUntilFinished(GameEngine engine, int finishers) {
+        while (engine.getRanking().size() < finishers) {
+            assertFalse(engine.playTurn(), "game ended before " + finishers + " players finished");
+        }
+    }
+
+    @Test
+    void restoresRankAllSnapshotWithSeveralFinishers() {
+        GameEngine engine = rankAllGame(11);
+        playUntilFinished(engine, 3);
+        GameSnapshot snapshot = engine.snapshot();
+        int[] state = engine.saveState();
+        List<Player> leaders = engine.getRanking();
+
+        engine.playHeadless(10_000);
+        assertTrue(engine.isOver());
+        engine.restore(snapshot);
+
+        assertArrayEquals(state, engine.saveState());
+        assertEquals(leaders, engine.getRanking());
+        assertFalse(engine.isOver());
+        engine.playHeadless(10_000);
+        assertTrue(engine.isOver());
+        assertEquals(SEATS, engine.getRanking().size());
+        assertEquals(leaders, engine.getRanking().subList(0, leaders.size()));
+    }
+
+    @Test
+    void restoresFinishedRankAllGame() {
+        GameEngine engine = rankAllGame(12);
+        engine.playHeadless(10_000);
+        int[] state = engine.saveState();
+
+        engine.restore(engine.snapshot());
+
+        assertArrayEquals(state, engine.saveState());
+        assertTrue(engine.isOver());
+    }
+
+    @Test
+    void choosingToStayEndsTheTurnAndTheSixStreak() {
+        BotStrategy alwaysStay = choice -> choice.getMoveCount() - 1;
+        List<Player> players = List.of(PlayerFactory.createBot("Stayer", alwaysStay),
+                PlayerFactory.createBot("Mover", new RandomBotStrategy()));
+        DiceSet diceSet = new DiceSet(1, 6, MarkovSolverTest.scripted(6));
+        GameEngine engine = new GameEngine(new Board(10), diceSet, players, GameEventSink.NONE);
+        engine.setMoveMode(MoveMode.CHOOSE_DICE);
+
+        assertFalse(engine.playTurn());
+        int[] state = engine.saveState();
+        assertEquals(1, state[3], "turn passed to the next seat");
+        assertEquals(0, state[5 + players.size()], "six streak of the player who stayed");
+        assertEquals(1, players.get(0).getPosition());
+    }
+
+    @Test
+    void manualDiceAreCheckedAgainstTheFaceCount() {
+        Player human = PlayerFactory.createHuman("Human1");
+        List<Player> players = List.of(human, PlayerFactory.createBot("Bot1", new RandomBotStrategy()));
+        GameEngine engine = new GameEngine(new Board(10), new DiceSet(2, 4), players, GameEventSink.NONE);
+        engine.setMoveMode(MoveMode.CHOOSE_DICE);
+        StringBuilder output = new StringBuilder();
+        ChannelIO io = new ChannelIO(output::append);
+        // Manual dice, a 6 that 4-sided dice can't show, then 4 and 1 and the full roll of 5
+        for (String line : List.of("2", "6", "4", "1", "1")) {
+            io.send(line);
+        }
+        io.close();
+
+        assertThrows(NoSuchElementException.class, () -> engine.play(io));
+        assertTrue(output.toString().contains("between 1 and 4"), output.toString());
+        assertEquals(6, human.getPosition());
+    }
+}
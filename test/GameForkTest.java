@@ -0,0 +1,41 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GameForkTest {
+    @Test
+    void forksRankAllGameAfterSeveralFinishers() {
+        GameEngine engine = GameEngineTest.rankAllGame(21);
+        GameEngineTest.playUntilFinished(engine, 2);
+        GameSnapshot snapshot = engine.snapshot();
+
+        GameEngine fork = engine.fork(snapshot, RandomAlgorithm.SPLITTABLE.create(1));
+        assertArrayEquals(engine.saveState(), fork.saveState());
+        fork.playHeadless(10_000);
+        assertTrue(fork.isOver());
+        assertEquals(snapshot.getSeatCount(), fork.getRanking().size());
+    }
+
+    @Test
+    void rankAllContinuationsDoNotDependOnThreadCount() {
+        GameEngine engine = GameEngineTest.rankAllGame(22);
+        GameEngineTest.playUntilFinished(engine, 3);
+        GameSnapshot snapshot = engine.snapshot();
+        // More chunks than a single thread keeps in flight
+        int continuations = 2 * ParallelSimulator.IN_FLIGHT_PER_THREAD * GameFork.DEFAULT_CHUNK_SIZE + 17;
+
+        SimulationResult single = new GameFork(engine, snapshot).run(continuations, 10_000, 5L, 1);
+        SimulationResult pooled = new GameFork(engine, snapshot).run(continuations, 10_000, 5L, 4);
+
+        assertEquals(continuations, single.getGames());
+        assertEquals(0, single.getUnfinishedGames());
+        // The winner was decided before the snapshot
+        assertEquals(continuations, single.getWins(engine.getWinnerSeat()));
+        assertEquals(single.getAverageTurns(), pooled.getAverageTurns());
+        assertEquals(single.getWins(engine.getWinnerSeat()), pooled.getWins(engine.getWinnerSeat()));
+    }
+}
@@ -0,0 +1,90 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameMetricsTest {
+    private static GameEngine game(long seed) {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 1; seat <= 3; seat++) {
+            players.add(PlayerFactory.createBot("Bot" + seat, new RandomBotStrategy()));
+        }
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(seed));
+        return new GameEngine(ParallelSimulatorTest.smallBoard(), diceSet, players, GameEventSink.NONE);
+    }
+
+    @Test
+    void countsMatchTheEngine() {
+        GameMetrics metrics = new GameMetrics();
+        int turns = 0;
+        int snakes = 0;
+        int ladders = 0;
+        for (long seed = 0; seed < 20; seed++) {
+            GameEngine engine = game(seed);
+            engine.setMetrics(metrics);
+            engine.playHeadless(GameSimulator.DEFAULT_MAX_TURNS);
+            turns += engine.getTurnCount();
+            snakes += engine.getSnakeHits();
+            ladders += engine.getLadderHits();
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(turns, snapshot.getCount(GameMetrics.Counter.TURNS));
+        assertEquals(snakes, snapshot.getCount(GameMetrics.Counter.SNAKES));
+        assertEquals(ladders, snapshot.getCount(GameMetrics.Counter.LADDERS));
+        assertEquals(turns, snapshot.getTimer(GameMetrics.Timer.TURN).getCount());
+        assertEquals(turns, snapshot.getTimer(GameMetrics.Timer.DICE_ROLL).getCount());
+    }
+
+    @Test
+    void timedRuleChainPlaysLikeTheCompiledResolver() {
+        for (long seed = 0; seed < 20; seed++) {
+            GameEngine plain = game(seed);
+            plain.setMetrics(new GameMetrics());
+            plain.playHeadless(GameSimulator.DEFAULT_MAX_TURNS);
+            GameEngine compiled = game(seed);
+            compiled.setMetrics(GameMetrics.DISABLED);
+            compiled.playHeadless(GameSimulator.DEFAULT_MAX_TURNS);
+
+            assertEquals(plain.getTurnCount(), compiled.getTurnCount(), "seed " + seed);
+            assertEquals(plain.getWinnerSeat(), compiled.getWinnerSeat(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void threadsSharingStripesLoseNothing() throws InterruptedException {
+        GameMetrics metrics = new GameMetrics();
+        int slot = metrics.ruleSlot("TestRule");
+        int threads = 64;
+        int perThread = 10_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    GameMetrics.Recorder recorder = metrics.recorder();
+                    recorder.increment(GameMetrics.Counter.TURNS);
+                    recorder.record(GameMetrics.Timer.TURN, i);
+                    recorder.recordRule(slot, i);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        long total = (long) threads * perThread;
+        assertEquals(total, snapshot.getCount(GameMetrics.Counter.TURNS));
+        LatencyHistogram turn = snapshot.getTimer(GameMetrics.Timer.TURN);
+        assertEquals(total, turn.getCount());
+        assertEquals(0, turn.getMin());
+        assertEquals(perThread - 1, turn.getMax());
+        assertEquals((perThread - 1) / 2.0, turn.getMean(), 1e-9);
+        assertEquals(total, snapshot.getRuleTimer("TestRule").getCount());
+    }
+}
@@ -0,0 +1,73 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameReplayTest {
+    @TempDir
+    Path directory;
+
+    private static List<Player> bots(int seats, BotStrategy strategy) {
+        List<Player> players = new ArrayList<>();
+        for (int seat = 1; seat <= seats; seat++) {
+            players.add(PlayerFactory.createBot("Bot" + seat, strategy));
+        }
+        return players;
+    }
+
+    // Plays the engine to the end while recording it, then checks a replay ends in the same state
+    private void assertReplaysExactly(GameEngine engine, MoveMode moveMode, boolean rankAll, GameRecorder recorder)
+            throws IOException {
+        engine.playHeadless(10_000);
+        recorder.close();
+        assertTrue(engine.isOver());
+
+        GameReplay replay = new GameReplay(GameRecording.read(directory.resolve("game.slgr")), 16, GameEventSink.NONE);
+        assertEquals(moveMode, replay.getRecording().getMoveMode());
+        assertEquals(rankAll, replay.getRecording().isRankAll());
+        assertEquals(engine.getTurnCount(), replay.getTurnCount());
+
+        replay.seek(replay.getTurnCount());
+        assertArrayEquals(engine.saveState(), replay.getEngine().saveState());
+        assertEquals(engine.getRanking().size(), replay.getRanking().size());
+        for (int i = 0; i < engine.getRanking().size(); i++) {
+            assertEquals(engine.getRanking().get(i).getName(), replay.getRanking().get(i).getName());
+        }
+    }
+
+    @Test
+    void replaysRankAllGame() throws IOException {
+        Board board = new Board(3);
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(3));
+        List<Player> players = bots(4, new RandomBotStrategy());
+        GameRecorder recorder = new GameRecorder(directory.resolve("game.slgr"), board, diceSet, players,
+                MoveMode.SUM, true);
+        GameEngine engine = new GameEngine(board, diceSet, players, recorder);
+        engine.setRankAll(true);
+
+        assertReplaysExactly(engine, MoveMode.SUM, true, recorder);
+        assertEquals(4, engine.getRanking().size());
+    }
+
+    @Test
+    void replaysChosenMoves() throws IOException {
+        Board board = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(5)).generate(10);
+        DiceSet diceSet = new DiceSet(2, 6, RandomAlgorithm.SPLITTABLE.create(6));
+        // The replay's own players always take the full roll, so only the recorded moves can reproduce these
+        List<Player> players = bots(3, new OptimalBotStrategy());
+        GameRecorder recorder = new GameRecorder(directory.resolve("game.slgr"), board, diceSet, players,
+                MoveMode.CHOOSE_DICE, false);
+        GameEngine engine = new GameEngine(board, diceSet, players, recorder);
+        engine.setMoveMode(MoveMode.CHOOSE_DICE);
+
+        assertReplaysExactly(engine, MoveMode.CHOOSE_DICE, false, recorder);
+    }
+}
@@ -0,0 +1,57 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameSimulatorTest {
+    @Test
+    void reusedEngineMatchesAFreshEnginePerGame() {
+        Board board = ParallelSimulatorTest.smallBoard();
+        SimulationResult simulated = new GameSimulator(board, new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(3)), 3)
+                .run(300);
+
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(3));
+        SimulationResult expected = new SimulationResult(3, GameSimulator.DEFAULT_MAX_TURNS);
+        for (int game = 0; game < 300; game++) {
+            List<Player> players = new ArrayList<>();
+            for (int seat = 1; seat <= 3; seat++) {
+                players.add(PlayerFactory.createBot("Bot" + seat, new RandomBotStrategy()));
+            }
+            GameEngine engine = new GameEngine(board, diceSet, players, GameEventSink.NONE);
+            engine.playHeadless(GameSimulator.DEFAULT_MAX_TURNS);
+            expected.recordGame(engine.getWinnerSeat(), engine.getTurnCount(), engine.getSnakeHits(),
+                    engine.getLadderHits());
+        }
+
+        assertEquals(expected.getAverageTurns(), simulated.getAverageTurns());
+        assertEquals(expected.getSnakeHits(), simulated.getSnakeHits());
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(expected.getWins(seat), simulated.getWins(seat), "seat " + seat);
+        }
+    }
+
+    @Test
+    void scriptedRollsPlayOutExactly() {
+        // 3x3 board: Bot1 goes 1 -> 5 -> 9, Bot2 reaches 3 in between; then the same again
+        DiceSet diceSet = new DiceSet(1, 6, ReplayRandom.ofFaces(4, 2, 4, 4, 2, 4));
+        SimulationResult result = new GameSimulator(new Board(3), diceSet, 2).run(2);
+
+        assertEquals(2, result.getWins(0));
+        assertEquals(2, result.getGamesFinishedIn(3));
+    }
+
+    @Test
+    void eachSeatPlaysItsOwnStrategy() {
+        BotStrategy alwaysStay = choice -> choice.getMoveCount() - 1;
+        GameSimulator simulator = new GameSimulator(new Board(4), new DiceSet(2, 6, RandomAlgorithm.SPLITTABLE.create(4)),
+                List.of(alwaysStay, new RandomBotStrategy()), 1000);
+        simulator.setMoveMode(MoveMode.CHOOSE_DICE);
+
+        SimulationResult result = simulator.run(50);
+        assertEquals(0, result.getWins(0));
+        assertEquals(50, result.getWins(1));
+    }
+}
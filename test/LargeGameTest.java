@@ -0,0 +1,73 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LargeGameTest {
+    @Test
+    void kickOutLeavesAtMostOneSeatPerCell() {
+        LargeGameConfig config = new LargeGameConfig(10, 1, 200, 0.05, true);
+        LargeGame game = LargeGame.create(config, RandomAlgorithm.SPLITTABLE.create(21));
+        CellOccupancy occupancy = game.getOccupancy();
+
+        while (!game.isOver() && game.getTurnCount() < 100_000) {
+            int seat = game.getCurrentSeat();
+            int before = occupancy.countAt(Occupancy.START_CELL);
+            boolean moverOnStart = game.getPosition(seat) == Occupancy.START_CELL;
+            long kicksBefore = game.getKicks();
+            game.playTurn();
+
+            // Everyone kicked lands on start; the mover may have left or returned there too
+            int moverChange = (game.getPosition(seat) == Occupancy.START_CELL ? 1 : 0) - (moverOnStart ? 1 : 0);
+            assertEquals(before + moverChange + (game.getKicks() - kicksBefore),
+                    occupancy.countAt(Occupancy.START_CELL));
+            for (int cell = 2; cell <= config.getCellCount(); cell++) {
+                assertTrue(occupancy.countAt(cell) <= 1, "cell " + cell);
+            }
+        }
+        assertTrue(game.isOver());
+        assertTrue(game.getKicks() > 0);
+    }
+
+    @Test
+    void withoutKickOutSeatsShareCells() {
+        LargeGameConfig config = new LargeGameConfig(10, 1, 200, 0.05, false);
+        LargeGame game = LargeGame.create(config, RandomAlgorithm.SPLITTABLE.create(22));
+        game.playHeadless(2_000);
+
+        assertEquals(0, game.getKicks());
+        int shared = 0;
+        for (int cell = 2; cell <= config.getCellCount(); cell++) {
+            shared = Math.max(shared, game.getOccupancy().countAt(cell));
+        }
+        assertTrue(shared > 1);
+    }
+
+    @Test
+    void countsTheEntitiesOnTheBoard() {
+        Board board = new Board(10);
+        board.addSnake(new Snake(50, 10));
+        board.addSnake(new Snake(80, 30));
+        board.addLadder(new Ladder(5, 60));
+        LargeGame game = new LargeGame(new LargeGameConfig(10, 1, 3, 0.02, true), board,
+                new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(1)));
+        assertEquals(2, game.getSnakeCount());
+        assertEquals(1, game.getLadderCount());
+    }
+
+    @Test
+    void resetPutsEveryoneBackOnStart() {
+        LargeGameConfig config = new LargeGameConfig(10, 1, 50, 0.05, true);
+        LargeGame game = LargeGame.create(config, RandomAlgorithm.SPLITTABLE.create(23));
+        game.playHeadless(500);
+        game.reset();
+
+        assertEquals(50, game.getOccupancy().countAt(Occupancy.START_CELL));
+        assertEquals(0, game.getTurnCount());
+        assertEquals(0, game.getKicks());
+        assertEquals(0, game.getCurrentSeat());
+        assertEquals(-1, game.getWinnerSeat());
+    }
+}
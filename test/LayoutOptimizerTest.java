@@ -0,0 +1,76 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LayoutOptimizerTest {
+    private static Board startingBoard() {
+        Board board = new Board(10);
+        board.addSnake(new Snake(98, 28));
+        board.addSnake(new Snake(87, 24));
+        board.addSnake(new Snake(62, 19));
+        board.addSnake(new Snake(47, 26));
+        board.addLadder(new Ladder(4, 14));
+        board.addLadder(new Ladder(9, 31));
+        board.addLadder(new Ladder(21, 42));
+        board.addLadder(new Ladder(51, 67));
+        board.addLadder(new Ladder(71, 91));
+        return board;
+    }
+
+    // MarkovSolver iterates to a tolerance; the optimizer solves exactly
+    private static final double RELATIVE_TOLERANCE = 1e-8;
+
+    private static void assertSameTurns(double expected, double actual, String message) {
+        assertEquals(expected, actual, expected * RELATIVE_TOLERANCE, message);
+    }
+
+    private static double solve(Board board) {
+        return new MarkovSolver(board.compile(), 1, 6).getExpectedTurns();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void incrementalTurnsMatchMarkovSolver(long seed) {
+        Board board = startingBoard();
+        LayoutOptimizer optimizer = new LayoutOptimizer(board, 1, 6, 2, RandomAlgorithm.SPLITTABLE.create(seed));
+        assertSameTurns(solve(board), optimizer.getExpectedTurns(), "start");
+        optimizer.setTargets(25.0, 0.02);
+
+        for (int round = 0; round < 30; round++) {
+            optimizer.optimize(25);
+            // Zero steps returns the current layout, after accepted and rejected moves alike
+            Board current = optimizer.optimize(0);
+            assertSameTurns(solve(current), optimizer.getExpectedTurns(), "round " + round);
+        }
+        assertTrue(optimizer.getAcceptedMoves() > 0);
+        assertTrue(optimizer.getRebuiltStates() > 0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 4", "3, 5"})
+    void bestLayoutMatchesMarkovSolver(int seats, long seed) {
+        LayoutOptimizer optimizer = new LayoutOptimizer(startingBoard(), 1, 6, seats,
+                RandomAlgorithm.SPLITTABLE.create(seed));
+        optimizer.setTargets(30.0, 0.01);
+        Board best = optimizer.optimize(500);
+
+        MarkovSolver solver = new MarkovSolver(best.compile(), 1, 6);
+        double turns = solver.getExpectedTurns();
+        assertSameTurns(turns, optimizer.getBestExpectedTurns(), "best");
+
+        // The same horizon the optimizer uses
+        int horizon = (int) Math.min(GameSimulator.DEFAULT_MAX_TURNS,
+                Math.ceil(optimizer.getBestExpectedTurns() * 10) + 50);
+        double[] wins = solver.getWinProbabilities(seats, horizon);
+        double total = 0;
+        for (double p : wins) {
+            total += p;
+        }
+        assertEquals(wins[0] / total - 1.0 / seats, optimizer.getBestFirstSeatAdvantage(), 1e-6);
+    }
+}
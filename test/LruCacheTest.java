@@ -0,0 +1,135 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+    // Weighs each value by its length
+    private static LruCache<String, String> cache(long maxWeight) {
+        return new LruCache<>(maxWeight, String::length);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        LruCache<String, String> cache = cache(100);
+        assertEquals("aa", cache.get("a", key -> "aa"));
+        assertEquals("aa", cache.get("a", key -> "other"));
+        assertEquals("bb", cache.get("b", key -> "bb"));
+        assertEquals("aa", cache.get("a", key -> "other"));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(2, stats.getEntries());
+        assertEquals(4, stats.getWeight());
+        assertEquals(0, stats.getEvictions());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsed() {
+        LruCache<String, String> cache = cache(6);
+        cache.get("a", key -> "aa");
+        cache.get("b", key -> "bb");
+        cache.get("c", key -> "cc");
+        cache.get("a", key -> "aa"); // now b is the eldest
+        cache.get("d", key -> "dd");
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getEvictions());
+        assertEquals(3, stats.getEntries());
+        assertEquals(6, stats.getWeight());
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> "a" + loads.incrementAndGet());
+        cache.get("c", key -> "c" + loads.incrementAndGet());
+        cache.get("d", key -> "d" + loads.incrementAndGet());
+        assertEquals(0, loads.get());
+        assertEquals("bb", cache.get("b", key -> "bb"));
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void keepsAnOversizedValueUntilTheNextLoad() {
+        LruCache<String, String> cache = cache(3);
+        cache.get("a", key -> "a");
+        cache.get("big", key -> "bigger");
+        assertEquals(1, cache.getStats().getEntries());
+        assertEquals(6, cache.getStats().getWeight());
+
+        cache.get("b", key -> "b");
+        assertEquals(1, cache.getStats().getEntries());
+        assertEquals(1, cache.getStats().getWeight());
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void failedLoadsAreNotCached() {
+        LruCache<String, String> cache = cache(10);
+        assertThrows(IllegalStateException.class, () -> cache.get("a", key -> {
+            throw new IllegalStateException("load failed");
+        }));
+        assertEquals(0, cache.getStats().getEntries());
+        assertEquals("aa", cache.get("a", key -> "aa"));
+        assertEquals(2, cache.getStats().getMisses());
+    }
+
+    @Test
+    void clearDropsEverything() {
+        LruCache<String, String> cache = cache(10);
+        cache.get("a", key -> "aa");
+        cache.clear();
+        assertEquals(0, cache.getStats().getEntries());
+        assertEquals(0, cache.getStats().getWeight());
+        assertEquals("new", cache.get("a", key -> "new"));
+    }
+
+    @Test
+    void concurrentRequestsShareOneLoad() throws Exception {
+        LruCache<String, String> cache = cache(100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        try {
+            Future<String> first = pool.submit(() -> cache.get("a", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "aa";
+            }));
+            loading.await();
+            List<Future<String>> waiters = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                waiters.add(pool.submit(() -> cache.get("a", key -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+
+            assertEquals("aa", first.get());
+            for (Future<String> waiter : waiters) {
+                assertEquals("aa", waiter.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(4, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+}
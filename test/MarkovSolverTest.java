@@ -0,0 +1,84 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class MarkovSolverTest {
+    // 4x4 board where 6, 6, 6 from the start goes 7 -> 4, 10, 16: the third six reaches the goal
+    static Board thirdSixReachesGoal() {
+        Board board = new Board(4);
+        board.addSnake(new Snake(7, 4));
+        return board;
+    }
+
+    // Rolls the given faces in order, then keeps rolling the last one
+    static RandomGenerator scripted(int... faces) {
+        return new RandomGenerator() {
+            private int next;
+
+            @Override
+            public int nextInt(int bound) {
+                int face = faces[Math.min(next++, faces.length - 1)];
+                return face - 1;
+            }
+
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Test
+    void engineSendsThirdSixOnTheGoalBackToStart() {
+        Player player = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+        DiceSet diceSet = new DiceSet(1, 6, scripted(6, 6, 6, 1));
+        GameEngine engine = new GameEngine(thirdSixReachesGoal(), diceSet, List.of(player), GameEventSink.NONE);
+
+        for (int roll = 0; roll < 3; roll++) {
+            engine.playTurn();
+        }
+
+        assertNull(engine.getWinner());
+        assertEquals(1, player.getPosition());
+    }
+
+    @Test
+    void solverAppliesThirdSixPenaltyBeforeTheWin() {
+        MarkovSolver solver = new MarkovSolver(thirdSixReachesGoal().compile(), 1, 6);
+
+        // 6, 6, 6 is the only way to reach 16 in one turn, and it ends on cell 1
+        assertEquals(0.0, solver.getFinishProbabilities(1)[1]);
+    }
+
+    @Test
+    void solverMatchesSeededEngine() {
+        Board board = thirdSixReachesGoal();
+        MarkovSolver solver = new MarkovSolver(board.compile(), 1, 6);
+        Player player = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+        DiceSet diceSet = new DiceSet(1, 6, RandomAlgorithm.SPLITTABLE.create(4));
+
+        int games = 50_000;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int game = 0; game < games; game++) {
+            player.setPosition(1);
+            GameEngine engine = new GameEngine(board, diceSet, List.of(player), GameEventSink.NONE);
+            engine.playHeadless(100_000);
+            int rolls = engine.getTurnCount();
+            sum += rolls;
+            sumOfSquares += (double) rolls * rolls;
+        }
+        double mean = sum / games;
+        double standardError = Math.sqrt((sumOfSquares / games - mean * mean) / games);
+
+        double expected = solver.getExpectedRolls();
+        assertTrue(Math.abs(mean - expected) < 4 * standardError,
+                "engine mean " + mean + " vs solver " + expected + " (standard error " + standardError + ")");
+    }
+}
@@ -0,0 +1,38 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelSimulatorTest {
+    static Board smallBoard() {
+        Board board = new Board(5);
+        board.addSnake(new Snake(17, 4));
+        board.addLadder(new Ladder(3, 12));
+        return board;
+    }
+
+    @Test
+    void totalsDoNotDependOnThreadCount() {
+        // Many more chunks than are ever in flight at once
+        int chunkSize = 16;
+        long games = 100 * chunkSize + 5;
+        SimulationResult single = simulator(1, chunkSize).run(games, 9L);
+        SimulationResult pooled = simulator(3, chunkSize).run(games, 9L);
+
+        assertEquals(games, single.getGames());
+        assertEquals(single.getAverageTurns(), pooled.getAverageTurns());
+        assertEquals(single.getSnakeHits(), pooled.getSnakeHits());
+        assertEquals(single.getLadderHits(), pooled.getLadderHits());
+        for (int seat = 0; seat < single.getSeatCount(); seat++) {
+            assertEquals(single.getWins(seat), pooled.getWins(seat), "seat " + seat);
+        }
+        for (int turns = 0; turns <= single.getMaxTurns(); turns++) {
+            assertEquals(single.getGamesFinishedIn(turns), pooled.getGamesFinishedIn(turns), "turns " + turns);
+        }
+    }
+
+    private static ParallelSimulator simulator(int threads, int chunkSize) {
+        return new ParallelSimulator(smallBoard(), 1, 6, 3, 1000, threads, chunkSize, RandomAlgorithm.SPLITTABLE);
+    }
+}
@@ -0,0 +1,42 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ReplayRandomTest {
+    @Test
+    void replaysRollOutcomeAndSingleDiceInterleaved() {
+        RecordingRandom recording = new RecordingRandom(RandomAlgorithm.SPLITTABLE.create(7));
+        int[] expected = playRolls(new DiceSet(3, 6, recording));
+
+        ReplayRandom replay = new ReplayRandom(recording.getRecordedDraws());
+        assertArrayEquals(expected, playRolls(new DiceSet(3, 6, replay)));
+        assertEquals(0, replay.getRemaining());
+    }
+
+    @Test
+    void replaysEveryGeneratorMethod() {
+        RecordingRandom recording = new RecordingRandom(RandomAlgorithm.L64X128_MIX.create(8));
+        double[] expected = {recording.nextDouble(), recording.nextInt(10), recording.nextInt(), recording.nextLong(100),
+                recording.nextBoolean() ? 1 : 0, recording.nextGaussian(), recording.nextInt(3, 9)};
+
+        ReplayRandom replay = new ReplayRandom(recording.getRecordedDraws());
+        double[] actual = {replay.nextDouble(), replay.nextInt(10), replay.nextInt(), replay.nextLong(100),
+                replay.nextBoolean() ? 1 : 0, replay.nextGaussian(), replay.nextInt(3, 9)};
+        assertArrayEquals(expected, actual);
+        assertEquals(0, replay.getRemaining());
+    }
+
+    // Alternates per-die rolls and single-draw outcomes, as DenseSimulator and GameEngine would
+    private static int[] playRolls(DiceSet diceSet) {
+        int[] results = new int[400];
+        int[] dice = new int[diceSet.getDiceCount()];
+        for (int i = 0; i < results.length; i += 2) {
+            results[i] = diceSet.rollOutcome();
+            results[i + 1] = diceSet.rollInto(dice);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,56 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RuleCompilerTest {
+    // One seat's rule state with its own board and player, so two of them can run side by side
+    private static final class Game {
+        final Player player = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+        final BoardOccupancy occupancy;
+        final RuleContext context;
+
+        Game() {
+            Board board = new Board(10);
+            occupancy = new BoardOccupancy(board.getWinningCell(), List.of(player));
+            context = new RuleContext(board, occupancy, 1, GameEventSink.NONE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void fusedResolverMatchesThePlainChain(int diceCount) {
+        TurnResolver fused = RuleCompiler.compile(GameEngine.DEFAULT_RULES);
+        Game compiled = new Game();
+        Game plain = new Game();
+        RandomGenerator random = RandomAlgorithm.SPLITTABLE.create(diceCount);
+
+        for (int roll = 0; roll < 20_000; roll++) {
+            int[] rolls = new int[diceCount];
+            int sum = 0;
+            for (int die = 0; die < diceCount; die++) {
+                rolls[die] = random.nextInt(6) + 1;
+                sum += rolls[die];
+            }
+            boolean overshoot = random.nextInt(4) == 0;
+            int cell = 2 + random.nextInt(90);
+            compiled.occupancy.moveTo(compiled.player, cell);
+            plain.occupancy.moveTo(plain.player, cell);
+
+            compiled.context.beginRoll(compiled.player, 0, rolls, sum, overshoot);
+            int fusedOutcome = fused.resolve(compiled.context);
+            plain.context.beginRoll(plain.player, 0, rolls, sum, overshoot);
+            for (Rule rule : GameEngine.DEFAULT_RULES) {
+                rule.apply(plain.context);
+            }
+
+            assertEquals(plain.context.getOutcome(), fusedOutcome, "roll " + roll);
+            assertEquals(plain.context.getConsecutiveSixes(0), compiled.context.getConsecutiveSixes(0), "roll " + roll);
+            assertEquals(plain.player.getPosition(), compiled.player.getPosition(), "roll " + roll);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RuleContextTest {
+    private static final ConsecutiveSixRule SIX_RULE = new ConsecutiveSixRule();
+    private static final ExtraTurnRule EXTRA_TURN_RULE = new ExtraTurnRule();
+
+    private static boolean roll(RuleContext context, Player player, int seat, int face) {
+        context.beginRoll(player, seat, new int[] {face}, face, false);
+        SIX_RULE.apply(context);
+        EXTRA_TURN_RULE.apply(context);
+        return context.hasExtraTurn();
+    }
+
+    @Test
+    void streaksAreKeptPerSeat() {
+        Player first = PlayerFactory.createBot("Bot1", new RandomBotStrategy());
+        Player second = PlayerFactory.createBot("Bot2", new RandomBotStrategy());
+        List<Player> players = List.of(first, second);
+        Board board = new Board(10);
+        BoardOccupancy occupancy = new BoardOccupancy(board.getWinningCell(), players);
+        RuleContext context = new RuleContext(board, occupancy, 2, GameEventSink.NONE);
+        occupancy.moveTo(first, 40);
+
+        assertTrue(roll(context, first, 0, 6));
+        assertTrue(roll(context, second, 1, 6));
+        assertTrue(roll(context, first, 0, 6));
+        assertEquals(2, context.getConsecutiveSixes(0));
+        assertEquals(1, context.getConsecutiveSixes(1));
+
+        // Third six in a row for seat 0 only
+        assertFalse(roll(context, first, 0, 6));
+        assertTrue(context.isExtraTurnDenied());
+        assertEquals(Occupancy.START_CELL, first.getPosition());
+        assertEquals(0, context.getConsecutiveSixes(0));
+        assertEquals(1, context.getConsecutiveSixes(1));
+
+        assertFalse(roll(context, second, 1, 3));
+        assertEquals(0, context.getConsecutiveSixes(1));
+    }
+
+    @Test
+    void enginesSharingTheRulesDoNotShareStreaks() {
+        // Both engines use GameEngine.DEFAULT_RULES; only the first one rolls sixes
+        Player sixes = PlayerFactory.createBot("Sixes", new RandomBotStrategy());
+        Player threes = PlayerFactory.createBot("Threes", new RandomBotStrategy());
+        GameEngine sixEngine = new GameEngine(new Board(10), new DiceSet(1, 6, MarkovSolverTest.scripted(6)),
+                List.of(sixes), GameEventSink.NONE);
+        GameEngine threeEngine = new GameEngine(new Board(10), new DiceSet(1, 6, MarkovSolverTest.scripted(3)),
+                List.of(threes), GameEventSink.NONE);
+
+        sixEngine.playTurn();
+        threeEngine.playTurn();
+        sixEngine.playTurn();
+
+        // [.., positions, streaks, ...] with one seat: the streak sits at index 6
+        assertEquals(2, sixEngine.saveState()[6]);
+        assertEquals(0, threeEngine.saveState()[6]);
+        assertEquals(13, sixes.getPosition());
+        assertEquals(4, threes.getPosition());
+    }
+}
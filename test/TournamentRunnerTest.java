@@ -0,0 +1,69 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TournamentRunnerTest {
+    @TempDir
+    Path directory;
+
+    private TournamentConfig spec(Path boardFile) {
+        Properties spec = new Properties();
+        spec.setProperty("board.size", "10");
+        spec.setProperty("board.generated", "0");
+        spec.setProperty("board.file", boardFile.toString());
+        spec.setProperty("strategies", "random,random");
+        spec.setProperty("games", "20");
+        spec.setProperty("threads", "2");
+        return TournamentConfig.of(spec);
+    }
+
+    private static Board layout(long seed) {
+        return new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(seed)).generate(10);
+    }
+
+    @Test
+    void resumeRejectsAChangedBoardFileWithTheSameName() throws IOException {
+        Path boardFile = directory.resolve("layouts.slb");
+        Path results = directory.resolve("results.csv");
+        BoardFileWriter.write(boardFile, List.of(layout(1)));
+        TournamentResult first = new TournamentRunner(spec(boardFile)).run(results);
+        assertEquals(2, first.getJobs());
+
+        BoardFileWriter.write(boardFile, List.of(layout(2)));
+
+        assertThrows(IllegalStateException.class, () -> new TournamentRunner(spec(boardFile)).run(results));
+    }
+
+    @Test
+    void rejectsDifferentStrategiesThatCannotChoose() {
+        Properties spec = new Properties();
+        spec.setProperty("strategies", "random,optimal");
+        spec.setProperty("move.mode", "SUM");
+        assertThrows(IllegalArgumentException.class, () -> TournamentConfig.of(spec));
+
+        spec.remove("move.mode");
+        assertEquals(MoveMode.CHOOSE_DICE, TournamentConfig.of(spec).getMoveMode());
+    }
+
+    @Test
+    void resumeAcceptsTheSameLayouts() throws IOException {
+        Path boardFile = directory.resolve("layouts.slb");
+        Path results = directory.resolve("results.csv");
+        BoardFileWriter.write(boardFile, List.of(layout(1), layout(3)));
+        new TournamentRunner(spec(boardFile)).run(results);
+
+        BoardFileWriter.write(boardFile, List.of(layout(1), layout(3)));
+        TournamentResult resumed = new TournamentRunner(spec(boardFile)).run(results);
+
+        assertEquals(4, resumed.getJobs());
+        assertEquals(4, resumed.getResumedJobs());
+    }
+}
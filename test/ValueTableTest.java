@@ -0,0 +1,28 @@
+package snakeladder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ValueTableTest {
+    // GameEngine allows 16 dice when choosing, which is more than 64 pips with d6
+    @Test
+    void buildsForSixteenDiceWhenChoosing() {
+        Board board = new BoardGenerator(RandomAlgorithm.SPLITTABLE.create(1)).generate(20);
+
+        ValueTable table = new ValueTable(board.compile(), 16, 6, MoveMode.CHOOSE_DICE);
+
+        assertTrue(Double.isFinite(table.getExpectedRolls()));
+        // One cell away, any die showing a one finishes and anything else can stay
+        assertEquals(1 / (1 - Math.pow(5.0 / 6, 16)), table.getExpectedRolls(board.getWinningCell() - 1), 1e-9);
+    }
+
+    @Test
+    void sumModeSolvesForcedStaysExactly() {
+        ValueTable table = new ValueTable(new Board(4).compile(), 2, 6, MoveMode.SUM);
+
+        // From 14 only a double one finishes; every other roll overshoots and stays
+        assertEquals(36.0, table.getExpectedRolls(14), 1e-9);
+    }
+}